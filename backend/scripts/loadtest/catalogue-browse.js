@@ -0,0 +1,53 @@
+// Catalogue browse: đọc danh sách / chi tiết sản phẩm (chủ yếu cache + MySQL đọc)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE = __ENV.BASE || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 200);
+const DURATION = __ENV.DURATION || '2m';
+const SEARCHES = ['', 'phone', 'laptop', 'book', 'shirt'];
+
+export const options = {
+  scenarios: {
+    browse: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '20s', target: VUS },
+        { duration: DURATION, target: VUS },
+        { duration: '10s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{name:list}': ['p(95)<500'],
+    'http_req_duration{name:detail}': ['p(95)<300'],
+  },
+};
+
+export function setup() {
+  const res = http.get(`${BASE}/api/v1/products?page=0&size=100`);
+  check(res, { 'seed products listed': (r) => r.status === 200 });
+  const items = res.json('items') || [];
+  if (items.length === 0) {
+    throw new Error('No products found; start the backend with APP_SEED_ENABLED=true');
+  }
+  return { products: items.map((p) => ({ id: p.id, slug: p.slug })) };
+}
+
+export default function (data) {
+  const page = Math.floor(Math.random() * 5);
+  const search = SEARCHES[Math.floor(Math.random() * SEARCHES.length)];
+  const query = search ? `&search=${search}` : '';
+  const list = http.get(`${BASE}/api/v1/products?page=${page}&size=20${query}`, { tags: { name: 'list' } });
+  check(list, { 'list 200': (r) => r.status === 200 });
+
+  const product = data.products[Math.floor(Math.random() * data.products.length)];
+  const detail = Math.random() < 0.5
+    ? http.get(`${BASE}/api/v1/products/${product.id}`, { tags: { name: 'detail' } })
+    : http.get(`${BASE}/api/v1/products/slug/${product.slug}`, { tags: { name: 'detail' } });
+  check(detail, { 'detail 200': (r) => r.status === 200 });
+
+  sleep(Math.random() * 0.5);
+}
@@ -0,0 +1,65 @@
+// Checkout: tạo đơn -> thêm item -> xác nhận (ghi MySQL, giữ connection lâu hơn)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE = __ENV.BASE || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 100);
+const DURATION = __ENV.DURATION || '2m';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  scenarios: {
+    checkout: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '20s', target: VUS },
+        { duration: DURATION, target: VUS },
+        { duration: '10s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    // 4xx (hết hàng) vẫn tính là xử lý xong; chỉ 5xx / timeout là lỗi
+    'checks{check:no server error}': ['rate>0.99'],
+    'http_req_duration{name:create}': ['p(95)<800'],
+    'http_req_duration{name:confirm}': ['p(95)<800'],
+  },
+};
+
+export function setup() {
+  const products = http.get(`${BASE}/api/v1/products?page=0&size=100`).json('items') || [];
+  if (products.length === 0) {
+    throw new Error('No products found; start the backend with APP_SEED_ENABLED=true');
+  }
+  const customer = http.post(`${BASE}/api/v1/customers`,
+    JSON.stringify({ name: `k6 load ${Date.now()}`, contactInfo: 'k6@example.com' }), { headers: JSON_HEADERS });
+  check(customer, { 'customer created': (r) => r.status === 200 || r.status === 201 });
+  return { customerId: customer.json('id'), productIds: products.map((p) => p.id) };
+}
+
+function serverOk(res) {
+  return check(res, { 'no server error': (r) => r.status > 0 && r.status < 500 });
+}
+
+function randomProduct(data) {
+  return data.productIds[Math.floor(Math.random() * data.productIds.length)];
+}
+
+export default function (data) {
+  const key = `k6-${__VU}-${__ITER}-${Date.now()}`;
+  const create = http.post(`${BASE}/api/v1/orders`,
+    JSON.stringify({ customerId: data.customerId, items: [{ productId: randomProduct(data), quantity: 1 }] }),
+    { headers: { ...JSON_HEADERS, 'Idempotency-Key': key }, tags: { name: 'create' } });
+  if (!serverOk(create) || create.status >= 300) {
+    return;
+  }
+  const orderId = create.json('id');
+
+  serverOk(http.post(`${BASE}/api/v1/orders/${orderId}/items?productId=${randomProduct(data)}&quantity=1`, null,
+    { headers: { 'Idempotency-Key': `${key}-item` }, tags: { name: 'add-item' } }));
+  serverOk(http.post(`${BASE}/api/v1/orders/${orderId}/confirm`, null,
+    { headers: { 'Idempotency-Key': `${key}-confirm` }, tags: { name: 'confirm' } }));
+
+  sleep(Math.random() * 0.5);
+}
@@ -0,0 +1,60 @@
+#!/usr/bin/env sh
+# So sánh platform threads và virtual threads trên cùng kịch bản k6.
+# Mỗi mode: khởi động lại backend (docker compose) với APP_VIRTUAL_THREADS tương ứng, chạy cả 2 kịch bản,
+# lưu summary JSON vào results/<mode>-<scenario>.json rồi in p95 / RPS / tỉ lệ lỗi.
+set -e
+
+DIR="$(CDPATH= cd -- "$(dirname -- "$0")" && pwd)"
+ROOT="$(CDPATH= cd -- "$DIR/../../.." && pwd)"
+BASE="${BASE:-http://localhost:8080}"
+RESULTS="$DIR/results"
+SCENARIOS="${SCENARIOS:-catalogue-browse checkout}"
+
+command -v k6 >/dev/null 2>&1 || { echo "[LOAD] ERROR: k6 not installed (https://k6.io/docs/get-started/installation/)" >&2; exit 1; }
+mkdir -p "$RESULTS"
+
+wait_healthy() {
+  i=0
+  until curl -sf "$BASE/actuator/health" >/dev/null 2>&1; do
+    i=$((i + 1))
+    if [ "$i" -gt 60 ]; then
+      echo "[LOAD] ERROR: backend not healthy at $BASE" >&2
+      exit 1
+    fi
+    sleep 2
+  done
+}
+
+for mode in platform virtual; do
+  if [ "$mode" = "virtual" ]; then VT=true; else VT=false; fi
+  echo "[LOAD] Restart backend with APP_VIRTUAL_THREADS=$VT"
+  (cd "$ROOT" && APP_VIRTUAL_THREADS=$VT APP_SEED_ENABLED=true RATE_LIMIT_ENABLED=false \
+    docker compose up -d --force-recreate backend)
+  wait_healthy
+
+  for scenario in $SCENARIOS; do
+    echo "[LOAD] $mode / $scenario"
+    k6 run --quiet -e BASE="$BASE" --summary-export "$RESULTS/$mode-$scenario.json" "$DIR/$scenario.js" || true
+  done
+  if [ "$VT" = "true" ]; then
+    curl -s "$BASE/actuator/pinning" > "$RESULTS/virtual-pinning.json" || true
+  fi
+done
+
+echo
+printf '%-10s %-18s %10s %10s %10s\n' mode scenario p95_ms rps failed
+for mode in platform virtual; do
+  for scenario in $SCENARIOS; do
+    f="$RESULTS/$mode-$scenario.json"
+    [ -f "$f" ] || continue
+    if command -v jq >/dev/null 2>&1; then
+      printf '%-10s %-18s %10.1f %10.1f %10.4f\n' "$mode" "$scenario" \
+        "$(jq '.metrics.http_req_duration["p(95)"]' "$f")" \
+        "$(jq '.metrics.http_reqs.rate' "$f")" \
+        "$(jq '.metrics.http_req_failed.value // 0' "$f")"
+    else
+      echo "$mode $scenario -> $f (install jq for a table)"
+    fi
+  done
+done
+echo "[LOAD] Pinning report (virtual): $RESULTS/virtual-pinning.json"
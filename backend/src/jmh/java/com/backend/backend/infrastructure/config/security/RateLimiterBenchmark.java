@@ -0,0 +1,80 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the rate limiter (tier resolution plus bucket lookup and consumption),
+ * for one hot client and for many clients, under contention. {@code distributedLeased} is the
+ * distributed limiter between two store round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private LocalRateLimiter rateLimiter;
+    private DistributedRateLimiter distributed;
+    private String[] clients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setEnabled(true);
+        // High limits: measure the accepted path, which is what normal traffic pays.
+        props.setApiRequests(Integer.MAX_VALUE);
+        props.setApiWindowSeconds(60);
+        props.setPublicRequests(Integer.MAX_VALUE);
+        props.setPublicWindowSeconds(60);
+        props.setAuthRequests(Integer.MAX_VALUE);
+        props.setAuthWindowSeconds(60);
+        props.setMaxTrackedClients(100_000);
+        props.setLeaseSize(1_000);
+        props.setStoreRetrySeconds(5);
+        rateLimiter = new LocalRateLimiter(props, new SimpleMeterRegistry());
+        // Store answering instantly: measures the leased (node-local) path, not the database.
+        RateLimitQuotaStore store = new RateLimitQuotaStore(null, null) {
+            @Override
+            public Reservation reserve(String bucketKey, long windowStart, long tokens, long limit) {
+                return new Reservation(tokens, limit);
+            }
+        };
+        distributed = new DistributedRateLimiter(props, store, rateLimiter, new SimpleMeterRegistry());
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public RateLimiter.Decision singleClient() {
+        return rateLimiter.tryAcquire(RateLimitTier.resolve("/api/v1/orders"), "10.0.0.1");
+    }
+
+    @Benchmark
+    public RateLimiter.Decision manyClients() {
+        String client = clients[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return rateLimiter.tryAcquire(RateLimitTier.resolve("/api/v1/orders"), client);
+    }
+
+    @Benchmark
+    public RateLimiter.Decision distributedLeased() {
+        String client = clients[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return distributed.tryAcquire(RateLimitTier.resolve("/api/v1/orders"), client);
+    }
+}
@@ -0,0 +1,89 @@
+package com.backend.backend.infrastructure.web.format;
+
+import com.backend.backend.dto.common.PageResponse;
+import com.backend.backend.dto.product.ProductResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU of a 200-item product page in each negotiable format, plain and gzip-compressed
+ * (what a mobile client downloads), and parsing it back. Payload sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    private static final int ITEMS = 200;
+    private static final TypeReference<PageResponse<ProductResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public ResponseFormat format;
+
+    private ObjectMapper mapper;
+    private PageResponse<ProductResponse> page;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = format.mapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+        List<ProductResponse> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(ProductResponse.builder()
+                    .id((long) i + 1)
+                    .name("Product " + i + " wireless noise-cancelling headphones")
+                    .slug("product-" + i + "-wireless-noise-cancelling-headphones")
+                    .description("Over-ear headphones with 30 hours of battery life, fast charging and multipoint pairing.")
+                    .price(new BigDecimal("199.99").add(BigDecimal.valueOf(i)))
+                    .quantityInStock(i % 50)
+                    .build());
+        }
+        page = PageResponse.<ProductResponse>builder()
+                .items(items).page(0).size(ITEMS).totalElements(10_000).totalPages(50)
+                .build();
+        serialized = mapper.writeValueAsBytes(page);
+        System.out.printf("%n[%s] %d items: %d bytes, %d bytes gzipped%n",
+                format, ITEMS, serialized.length, gzip(serialized).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public PageResponse<ProductResponse> deserialize() throws IOException {
+        return mapper.readValue(serialized, PAGE_TYPE);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
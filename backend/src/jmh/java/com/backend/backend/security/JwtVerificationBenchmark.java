@@ -0,0 +1,81 @@
+package com.backend.backend.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auth cost of one authenticated request to {@code /auth/profile}, which reads three claims.
+ * <p>
+ * {@code rebuildPerCall} is the previous behaviour (key and parser rebuilt, token parsed for every
+ * claim); {@code sharedParser} parses once with a parser built once, without any cache;
+ * {@code verifierCached} is a token seen before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey123456789012345678901234567890";
+
+    private JwtVerifier cached;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtVerifier(Ticker.systemTicker(), SECRET, 10_000);
+        parser = Jwts.parser().verifyWith(cached.signingKey()).build();
+        token = Jwts.builder()
+                .claims(Map.of(JwtUtil.USER_ID_CLAIM, 42, JwtUtil.ROLE_CLAIM, "USER", JwtUtil.TOKEN_VERSION_CLAIM, 0))
+                .subject("benchmark-user")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(cached.signingKey(), Jwts.SIG.HS256)
+                .compact();
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public void rebuildPerCall(Blackhole bh) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            bh.consume(claims.getSubject());
+        }
+    }
+
+    @Benchmark
+    public void sharedParser(Blackhole bh) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        bh.consume(claims.getSubject());
+        bh.consume(claims.get(JwtUtil.USER_ID_CLAIM));
+        bh.consume(claims.get(JwtUtil.ROLE_CLAIM));
+    }
+
+    @Benchmark
+    public void verifierCached(Blackhole bh) {
+        Claims claims = cached.verify(token);
+        bh.consume(claims.getSubject());
+        bh.consume(claims.get(JwtUtil.USER_ID_CLAIM));
+        bh.consume(claims.get(JwtUtil.ROLE_CLAIM));
+    }
+}
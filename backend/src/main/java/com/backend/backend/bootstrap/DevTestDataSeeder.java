@@ -7,6 +7,7 @@ import com.backend.backend.entity.Product;
 import com.backend.backend.repository.UserRepository;
 import com.backend.backend.repository.CustomerRepository;
 import com.backend.backend.repository.ProductRepository;
+import com.backend.backend.service.PasswordService;
 import com.backend.backend.util.SlugUtil;
 import lombok.RequiredArgsConstructor;
 import net.datafaker.Faker;
@@ -35,6 +36,7 @@ public class DevTestDataSeeder implements CommandLineRunner {
     private final CustomerRepository customerRepo;
     private final UserRepository userRepository;
     private final SeedProperties props;
+    private final PasswordService passwordService;
 
     @Override
     @Transactional
@@ -129,8 +131,8 @@ public class DevTestDataSeeder implements CommandLineRunner {
                     .username("admin")
                     .email("admin@example.com")
                     .fullName("System Administrator")
+                    .passwordHash(passwordService.hashPassword("admin123"))
                     .build();
-            admin.setPassword("admin123"); // This will hash the password
             
             userRepository.save(admin);
             log.info("Created default administrator: admin/admin123");
@@ -0,0 +1,36 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The one-line-per-request access log written to the {@code access} logger, bound from {@code app.access-log}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.access-log")
+public class AccessLogProps {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction (0..1) of successful (below 400), fast requests that are logged. Errors and slow
+     * requests are always logged.
+     */
+    private double successSampleRate = 1.0;
+
+    /**
+     * Requests taking at least this long are always logged.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Ant-style paths that are never logged.
+     */
+    private List<String> excludePaths = new ArrayList<>(List.of("/actuator/**"));
+}
@@ -4,6 +4,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties({ SeedProperties.class })
+@EnableConfigurationProperties({ SeedProperties.class, TokenRevocationProps.class })
 public class AppConfig {
 }
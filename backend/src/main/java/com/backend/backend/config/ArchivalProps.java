@@ -0,0 +1,42 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Moving of long soft-deleted rows into the {@code *_archive} tables, bound from {@code app.archival}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.archival")
+public class ArchivalProps {
+
+    private boolean enabled = true;
+
+    /**
+     * Rows soft-deleted longer ago than this are archived; until then a plain restore still works.
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    private Duration interval = Duration.ofHours(1);
+
+    private Duration initialDelay = Duration.ofMinutes(10);
+
+    /**
+     * Rows moved per transaction; keeps row locks and undo short.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Sleep between batches so replication and foreground writes keep up.
+     */
+    private Duration batchPause = Duration.ofMillis(200);
+
+    /**
+     * Upper bound of batches per table and run; the rest waits for the next run.
+     */
+    private int maxBatchesPerRun = 200;
+}
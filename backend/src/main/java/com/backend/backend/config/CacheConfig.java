@@ -1,55 +1,188 @@
 package com.backend.backend.config;
 
+import com.backend.backend.infrastructure.cache.ClusterAwareCache;
+import com.backend.backend.infrastructure.cache.ClusterAwareCacheMeterBinderProvider;
+import com.backend.backend.infrastructure.cache.SerializedSizeWeigher;
+import com.backend.backend.infrastructure.cache.VersionedCache;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.JdbcCacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.NoOpCacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.list.ListProperties;
+import com.backend.backend.infrastructure.cache.list.TaggedListCache;
+import com.backend.backend.infrastructure.cache.refresh.CacheRefreshSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
 @EnableConfigurationProperties(CacheProps.class)
+@Slf4j
 public class CacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of(
+            CacheNames.PRODUCT_BY_ID,
+            CacheNames.PRODUCT_BY_SLUG,
+            CacheNames.PRODUCT_LIST,
+            CacheNames.SUPPLIER_BY_ID,
+            CacheNames.SUPPLIER_LIST,
+            CacheNames.CUSTOMER_BY_ID,
+            CacheNames.CUSTOMER_BY_SLUG,
+            CacheNames.CUSTOMER_LIST,
+            CacheNames.ORDER_BY_ID,
+            CacheNames.ORDER_LIST,
+            CacheNames.ORDER_BY_CUSTOMER,
+            CacheNames.PRODUCT_NOT_FOUND,
+            CacheNames.CUSTOMER_NOT_FOUND,
+            CacheNames.SUPPLIER_NOT_FOUND,
+            CacheNames.ORDER_NOT_FOUND,
+            CacheNames.USER_SECURITY_STATE
+    );
+
+    /**
+     * List caches keyed by {@code ListQueryKey} and invalidated per row, with the properties their
+     * search filters on and they are usually sorted by.
+     */
+    static final Map<String, ListProperties> TAGGED_LIST_CACHES = Map.of(
+            CacheNames.PRODUCT_LIST, ListProperties.of("name", "name", "price", "quantityInStock"),
+            CacheNames.CUSTOMER_LIST, ListProperties.of("name", "name")
+    );
+
     @Bean
-    public CacheManager cacheManager(CacheProps props) {
-        var caffeine = Caffeine.newBuilder()
-                .maximumSize(props.getMaximumSize())
-                .expireAfterWrite(Duration.ofSeconds(props.getTtlSeconds()));
+    public CacheManager cacheManager(CacheProps props, ObjectMapper objectMapper, CacheInvalidationBus bus,
+                                     CacheRefreshSupport refreshSupport) {
+        validateCacheNames(props);
+        var weigher = new SerializedSizeWeigher(objectMapper);
 
         var mgr = new SimpleCacheManager();
-        mgr.setCaches(List.of(
-                new CaffeineCache(CacheNames.PRODUCT_BY_ID, caffeine.build()),
-                new CaffeineCache(CacheNames.PRODUCT_BY_SLUG, caffeine.build()),
-                new CaffeineCache(CacheNames.PRODUCT_LIST, caffeine.build()),
-                new CaffeineCache(CacheNames.SUPPLIER_BY_ID, caffeine.build()),
-                new CaffeineCache(CacheNames.SUPPLIER_LIST, caffeine.build()),
-                new CaffeineCache(CacheNames.CUSTOMER_BY_ID, caffeine.build()),
-                new CaffeineCache(CacheNames.CUSTOMER_BY_SLUG, caffeine.build()),
-                new CaffeineCache(CacheNames.CUSTOMER_LIST, caffeine.build()),
-                new CaffeineCache(CacheNames.ORDER_BY_ID, caffeine.build()),
-                new CaffeineCache(CacheNames.ORDER_LIST, caffeine.build()),
-                new CaffeineCache(CacheNames.ORDER_BY_CUSTOMER, caffeine.build())
-        ));
+        mgr.setCaches(CACHE_NAMES.stream()
+                .map(name -> {
+                    Cache local = new VersionedCache(
+                            new CaffeineCache(name, build(name, props.specFor(name), weigher, refreshSupport)),
+                            props.getStaleWriteWindow());
+                    if (TAGGED_LIST_CACHES.containsKey(name)) {
+                        local = new TaggedListCache(local, TAGGED_LIST_CACHES.get(name));
+                    }
+                    // Puts and evictions made inside a transaction are applied (and broadcast) after commit,
+                    // and dropped on rollback; otherwise a concurrent read could re-cache the old row.
+                    return (Cache) new TransactionAwareCacheDecorator(new ClusterAwareCache(local, bus));
+                })
+                .toList());
+        bus.subscribe(invalidation -> applyRemote(mgr, invalidation));
         return mgr;
     }
-}
 
-@ConfigurationProperties(prefix = "app.cache")
-class CacheProps {
-    private long ttlSeconds = 300;
-    private long maximumSize = 1000;
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+    public JdbcCacheInvalidationBus jdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                                             PlatformTransactionManager transactionManager,
+                                                             CacheProps props) {
+        CacheProps.Invalidation cfg = props.getInvalidation();
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new JdbcCacheInvalidationBus(jdbcTemplate, newTransaction, nodeId(cfg),
+                cfg.getPollInterval(), cfg.getRetention(), cfg.getGapTimeout());
+    }
 
-    public long getTtlSeconds() { return ttlSeconds; }
-    public void setTtlSeconds(long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
-    public long getMaximumSize() { return maximumSize; }
-    public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
-}
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "none")
+    public CacheInvalidationBus noOpCacheInvalidationBus(CacheProps props) {
+        return new NoOpCacheInvalidationBus(nodeId(props.getInvalidation()));
+    }
+
+    @Bean
+    public ClusterAwareCacheMeterBinderProvider clusterAwareCacheMeterBinderProvider() {
+        return new ClusterAwareCacheMeterBinderProvider();
+    }
 
+    private static void applyRemote(CacheManager manager, CacheInvalidation invalidation) {
+        if (ClusterAwareCache.unwrap(manager.getCache(invalidation.cacheName())) instanceof ClusterAwareCache cache) {
+            cache.applyRemote(invalidation);
+        }
+    }
+
+    static String nodeId(CacheProps.Invalidation cfg) {
+        if (cfg.getNodeId() != null && !cfg.getNodeId().isBlank()) {
+            return cfg.getNodeId();
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        // Suffix keeps two instances on the same host (or a restarted container) apart.
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    static com.github.benmanes.caffeine.cache.Cache<Object, Object> build(
+            String name, CacheProps.Spec spec, SerializedSizeWeigher weigher, CacheRefreshSupport refreshSupport) {
+        Caffeine<Object, Object> caffeine = caffeine(name, spec, weigher);
+        Duration refreshAfter = spec.getRefreshAfter();
+        if (refreshAfter == null) {
+            return caffeine.build();
+        }
+        if (!refreshSupport.hasReloader(name)) {
+            throw new IllegalStateException("Cache '" + name + "' has refresh-after but no reloader is registered");
+        }
+        if (refreshAfter.compareTo(spec.getTtl()) >= 0) {
+            // Entry would expire before it is ever refreshed (e.g. ttl lowered via env).
+            log.warn("Cache '{}': refresh-after {} is not shorter than ttl {}, refresh-ahead disabled",
+                    name, refreshAfter, spec.getTtl());
+            return caffeine.build();
+        }
+        log.info("Cache '{}': refresh-after={}", name, refreshAfter);
+        return caffeine.refreshAfterWrite(refreshAfter).build(refreshSupport.loaderFor(name).orElseThrow());
+    }
+
+    static Caffeine<Object, Object> caffeine(String name, CacheProps.Spec spec, SerializedSizeWeigher weigher) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .recordStats();
+
+        if (spec.getMaxWeight() != null) {
+            caffeine.maximumWeight(spec.getMaxWeight().toBytes()).weigher(weigher);
+            log.info("Cache '{}': ttl={}, max-weight={}", name, spec.getTtl(), spec.getMaxWeight());
+        } else {
+            caffeine.maximumSize(spec.getMaximumSize());
+            log.info("Cache '{}': ttl={}, maximum-size={}", name, spec.getTtl(), spec.getMaximumSize());
+        }
+        return caffeine;
+    }
+
+    /**
+     * A typo under {@code app.cache.caches} would silently leave a cache on the defaults; fail fast instead.
+     */
+    private static void validateCacheNames(CacheProps props) {
+        Set<String> unknown = new HashSet<>(props.getCaches().keySet());
+        unknown.removeAll(CACHE_NAMES);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Unknown cache name(s) under app.cache.caches: " + unknown
+                    + ". Known caches: " + CACHE_NAMES);
+        }
+    }
+}
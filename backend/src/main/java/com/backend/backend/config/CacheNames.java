@@ -13,4 +13,13 @@ public final class CacheNames {
     public static final String ORDER_BY_ID     = "order-by-id";
     public static final String ORDER_LIST      = "order-list";
     public static final String ORDER_BY_CUSTOMER = "order-by-customer";
+
+    // Negative caches: ids/slugs recently looked up and not found
+    public static final String PRODUCT_NOT_FOUND  = "product-not-found";
+    public static final String CUSTOMER_NOT_FOUND = "customer-not-found";
+    public static final String SUPPLIER_NOT_FOUND = "supplier-not-found";
+    public static final String ORDER_NOT_FOUND    = "order-not-found";
+
+    // userId -> token version checked on every JWT-authenticated request
+    public static final String USER_SECURITY_STATE = "user-security-state";
 }
@@ -0,0 +1,183 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache settings bound from {@code app.cache}.
+ * <p>
+ * {@code ttl-seconds} and {@code maximum-size} are the defaults; every cache listed in
+ * {@link CacheNames} can override them under {@code app.cache.caches.<name>}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProps {
+
+    /**
+     * Default time-to-live (seconds) for caches without their own {@code ttl}.
+     */
+    private long ttlSeconds = 300;
+
+    /**
+     * Default entry cap for caches without their own {@code maximum-size} or {@code max-weight}.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * After a key is evicted, plain puts of that key are ignored for this long, since they may carry
+     * data read before the write that caused the eviction.
+     */
+    private Duration staleWriteWindow = Duration.ofSeconds(5);
+
+    /**
+     * Per-cache overrides keyed by cache name, e.g. {@code app.cache.caches.product-by-id.max-weight=200MB}.
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * Propagation of evictions to the other backend nodes.
+     */
+    private Invalidation invalidation = new Invalidation();
+
+    /**
+     * Executor for refresh-ahead reloads.
+     */
+    private Refresh refresh = new Refresh();
+
+    /**
+     * Bounds of the Hibernate second-level cache regions.
+     */
+    private EntityRegions entity = new EntityRegions();
+
+    /**
+     * Pre-serialized JSON of cached response DTOs.
+     */
+    private ResponseBody responseBody = new ResponseBody();
+
+    /**
+     * Resolves the effective settings of a cache, falling back to the global defaults.
+     */
+    public Spec specFor(String cacheName) {
+        Spec override = caches.get(cacheName);
+        Spec resolved = new Spec();
+        resolved.setTtl(override != null && override.getTtl() != null
+                ? override.getTtl()
+                : Duration.ofSeconds(ttlSeconds));
+        resolved.setMaxWeight(override != null ? override.getMaxWeight() : null);
+        resolved.setRefreshAfter(override != null ? override.getRefreshAfter() : null);
+        resolved.setMaximumSize(override != null && override.getMaximumSize() != null
+                ? override.getMaximumSize()
+                : maximumSize);
+        return resolved;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * Expire entries this long after they were written.
+         */
+        private Duration ttl;
+
+        /**
+         * Memory budget of the cache, enforced by weighing entries by their estimated serialized size.
+         * Takes precedence over {@code maximum-size} when set.
+         */
+        private DataSize maxWeight;
+
+        /**
+         * Entry cap used when no {@code max-weight} is configured.
+         */
+        private Long maximumSize;
+
+        /**
+         * Reload an entry in the background once it is this old and still being read, while the
+         * current value keeps being served. Must be shorter than {@code ttl}; only caches with a
+         * registered reloader support it.
+         */
+        private Duration refreshAfter;
+    }
+
+    @Getter
+    @Setter
+    public static class Refresh {
+
+        private int coreThreads = 2;
+
+        private int maxThreads = 4;
+
+        /**
+         * Pending reloads beyond this are dropped (the entry keeps its current value).
+         */
+        private int queueCapacity = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class EntityRegions {
+
+        /**
+         * Expire region entries this long after they were written. Bounds staleness from writes that
+         * bypass Hibernate (native SQL, another service).
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Entry cap of each region.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ResponseBody {
+
+        /**
+         * Entry cap; entries also disappear with the DTO instance they were serialized from.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Bodies at least this large are also served gzip-compressed to clients that accept it.
+         */
+        private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+
+        /**
+         * {@code jdbc} polls the {@code cache_invalidations} table; {@code none} keeps evictions node-local.
+         */
+        private String transport = "jdbc";
+
+        /**
+         * Identifier of this node; defaults to the host name plus a random suffix.
+         */
+        private String nodeId;
+
+        /**
+         * How often other nodes' evictions are picked up.
+         */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /**
+         * How long invalidation rows are kept before being purged.
+         */
+        private Duration retention = Duration.ofMinutes(10);
+
+        /**
+         * How long an out-of-order (not yet committed) invalidation id is waited for.
+         */
+        private Duration gapTimeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.backend.config;
+
+import com.backend.backend.infrastructure.cache.refresh.CacheRefreshSupport;
+import com.backend.backend.mapper.CustomerMapper;
+import com.backend.backend.mapper.OrderMapper;
+import com.backend.backend.mapper.ProductMapper;
+import com.backend.backend.mapper.SupplierMapper;
+import com.backend.backend.repository.CustomerRepository;
+import com.backend.backend.repository.OrderRepository;
+import com.backend.backend.repository.ProductRepository;
+import com.backend.backend.repository.SupplierRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reloaders for the caches that support refresh-ahead ({@code app.cache.caches.<name>.refresh-after}).
+ * <p>
+ * They mirror the cached service reads but return {@code null} instead of throwing when the entity
+ * is gone, which drops the entry. List caches are keyed by a hash of the query and cannot be
+ * reloaded from their key; they rely on single-flight loading only.
+ */
+@Configuration
+public class CacheRefreshConfig {
+
+    @Bean
+    public CacheRefreshSupport cacheRefreshSupport(CacheProps props,
+                                                   PlatformTransactionManager transactionManager,
+                                                   MeterRegistry meterRegistry,
+                                                   ProductRepository productRepository,
+                                                   ProductMapper productMapper,
+                                                   CustomerRepository customerRepository,
+                                                   CustomerMapper customerMapper,
+                                                   SupplierRepository supplierRepository,
+                                                   SupplierMapper supplierMapper,
+                                                   OrderRepository orderRepository,
+                                                   OrderMapper orderMapper) {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        CacheProps.Refresh refresh = props.getRefresh();
+        return new CacheRefreshSupport(refresh.getCoreThreads(), refresh.getMaxThreads(),
+                refresh.getQueueCapacity(), readOnlyTx, meterRegistry)
+                .register(CacheNames.PRODUCT_BY_ID, id -> productRepository.findById((Long) id)
+                        .map(productMapper::toResponse).orElse(null))
+                .register(CacheNames.PRODUCT_BY_SLUG, slug -> productRepository.findBySlug((String) slug)
+                        .map(productMapper::toResponse).orElse(null))
+                .register(CacheNames.CUSTOMER_BY_ID, id -> customerRepository.findById((Long) id)
+                        .map(customerMapper::toResponse).orElse(null))
+                .register(CacheNames.CUSTOMER_BY_SLUG, slug -> customerRepository.findBySlug((String) slug)
+                        .map(customerMapper::toResponse).orElse(null))
+                .register(CacheNames.SUPPLIER_BY_ID, id -> supplierRepository.findById((Long) id)
+                        .map(supplierMapper::toResponse).orElse(null))
+                .register(CacheNames.ORDER_BY_ID, id -> orderRepository.findById((Long) id)
+                        .map(orderMapper::toResponse).orElse(null));
+    }
+}
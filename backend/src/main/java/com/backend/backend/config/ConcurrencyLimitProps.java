@@ -0,0 +1,64 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive in-flight request limit and load shedding, bound from {@code app.concurrency-limit}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProps {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 40;
+
+    private int minLimit = 10;
+
+    /**
+     * Upper bound of the learned limit; no point going above the Tomcat thread pool on platform threads.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * How far latency may rise above its long-run baseline (as a ratio) before the limit shrinks.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Weight (0..1) of each new estimate; lower values react more slowly but smoothly.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Latency samples are averaged over at least this long, and at least {@code min-window-samples}, per update.
+     */
+    private Duration sampleWindow = Duration.ofMillis(500);
+
+    private int minWindowSamples = 10;
+
+    /**
+     * Fraction of the limit that bulk requests may use; they are shed before anything else.
+     */
+    private double bulkShare = 0.5;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Ant-style paths that are never shed.
+     */
+    private List<String> criticalPaths = new ArrayList<>(List.of("/auth/**", "/actuator/**"));
+
+    /**
+     * Ant-style paths shed first (exports, imports, statistics).
+     */
+    private List<String> bulkPaths = new ArrayList<>(List.of(
+            "/api/**/export-csv", "/api/**/import-csv", "/api/**/stats"));
+}
@@ -0,0 +1,51 @@
+package com.backend.backend.config;
+
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache: entity, collection and natural-id regions backed by Caffeine through JCache.
+ * <p>
+ * The Spring {@code @Cacheable} caches (see {@link CacheConfig}) hold response DTOs; these regions hold
+ * entity state, so internal {@code findById} calls (order creation, stock entries, authentication)
+ * are served without a query. Regions are node-local and bounded by {@code app.cache.entity}.
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateRegionCacheManager(CacheProps props) {
+        CacheProps.EntityRegions cfg = props.getEntity();
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-regions"), getClass().getClassLoader());
+        for (String region : EntityCacheRegions.ALL) {
+            if (manager.getCache(region) != null) {
+                continue;
+            }
+            CaffeineConfiguration<Object, Object> regionConfig = new CaffeineConfiguration<>();
+            regionConfig.setMaximumSize(OptionalLong.of(cfg.getMaximumSize()));
+            regionConfig.setExpireAfterWrite(OptionalLong.of(cfg.getTtl().toNanos()));
+            manager.createCache(region, regionConfig);
+        }
+        log.info("Hibernate L2 regions: {} (ttl={}, maximum-size={})",
+                EntityCacheRegions.ALL, cfg.getTtl(), cfg.getMaximumSize());
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRegionCacheCustomizer(CacheManager hibernateRegionCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateRegionCacheManager);
+    }
+}
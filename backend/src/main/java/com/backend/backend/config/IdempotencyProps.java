@@ -0,0 +1,50 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key handling of the mutating order and stock endpoints, bound from {@code app.idempotency}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProps {
+
+    /**
+     * {@code memory} keeps keys on this node only; {@code jdbc} shares them through the
+     * {@code idempotency_keys} table, with completed responses also cached in memory.
+     */
+    private String store = "memory";
+
+    /**
+     * How long a key and its recorded response are kept; a retry after that runs again.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Entry cap of the in-memory tier.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * How long a retry arriving while the original request still runs waits for its response
+     * before getting a 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * A key whose request has not finished after this long (e.g. the node died) can be claimed again.
+     */
+    private Duration lockTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Path prefixes where a POST without {@code Idempotency-Key} is rejected; elsewhere the header is optional.
+     */
+    private List<String> requireKeyFor = new ArrayList<>(List.of("/api/v1/orders"));
+}
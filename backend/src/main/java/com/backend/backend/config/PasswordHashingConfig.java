@@ -0,0 +1,49 @@
+package com.backend.backend.config;
+
+import com.backend.backend.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProps.class)
+@Slf4j
+public class PasswordHashingConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProps props, MeterRegistry registry) {
+        log.info("Password hashing: algorithm={}, bcrypt-strength={}, threads={}, queue-capacity={}, timeout={}",
+                props.getAlgorithm(), props.getBcryptStrength(), props.getThreads(), props.getQueueCapacity(),
+                props.getTimeout());
+        return new BoundedPasswordEncoder(delegatingEncoder(props), props.getThreads(), props.getQueueCapacity(),
+                props.getTimeout(), registry);
+    }
+
+    /**
+     * Encodes with the configured algorithm as {@code {id}hash}, and reports every other algorithm
+     * (or a lower bcrypt cost) as needing an upgrade.
+     */
+    static PasswordEncoder delegatingEncoder(PasswordHashingProps props) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(props.getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(props.getAlgorithm())) {
+            throw new IllegalStateException("Unknown app.security.password.algorithm '" + props.getAlgorithm()
+                    + "'. Supported: " + encoders.keySet());
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(props.getAlgorithm(), encoders);
+        // Hash cũ lưu không có tiền tố {id} đều là bcrypt
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Password hashing settings, bound from {@code app.security.password}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProps {
+
+    /**
+     * Algorithm new hashes are created with ({@code bcrypt} or {@code pbkdf2}). Hashes made with
+     * another algorithm or a lower cost keep verifying and are re-encoded on the next login.
+     */
+    private String algorithm = "bcrypt";
+
+    /**
+     * BCrypt log rounds; each step doubles the time of a hash.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads hashing and verifying passwords. Bounds the CPU a login burst can take from
+     * the request threads.
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hash operations allowed to wait for a thread; beyond it requests are rejected at once.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a request waits for its hash before it is rejected.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+}
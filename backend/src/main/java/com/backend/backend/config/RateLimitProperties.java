@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration properties for Rate Limiting settings.
  * Reads from environment variables (from .env file)
@@ -70,6 +73,48 @@ public class RateLimitProperties {
     @Value("${RATE_LIMIT_AUTH_WINDOW_SECONDS:60}")
     private int authWindowSeconds;
     
+    /**
+     * Upper bound of client buckets kept in memory (one per client and tier).
+     * Environment variable: RATE_LIMIT_MAX_TRACKED_CLIENTS
+     * Default: 100000
+     */
+    @Value("${RATE_LIMIT_MAX_TRACKED_CLIENTS:100000}")
+    private long maxTrackedClients;
+    
+    /**
+     * local: each node enforces the quotas on its own (N nodes allow N times the quota);
+     * distributed: quotas are shared by all nodes through the rate_limit_quotas table.
+     * Environment variable: RATE_LIMIT_MODE
+     * Default: local
+     */
+    @Value("${RATE_LIMIT_MODE:local}")
+    private String mode;
+    
+    /**
+     * Distributed mode: tokens a node reserves from the shared quota at once (capped at 5% of the limit).
+     * Environment variable: RATE_LIMIT_LEASE_SIZE
+     * Default: 10
+     */
+    @Value("${RATE_LIMIT_LEASE_SIZE:10}")
+    private int leaseSize;
+    
+    /**
+     * Distributed mode: how long a node uses its local limits after the quota store failed.
+     * Environment variable: RATE_LIMIT_STORE_RETRY_SECONDS
+     * Default: 5 seconds
+     */
+    @Value("${RATE_LIMIT_STORE_RETRY_SECONDS:5}")
+    private int storeRetrySeconds;
+    
+    /**
+     * Reverse proxies (IPs or CIDR ranges) whose X-Forwarded-For is believed. Requests from any other
+     * peer are limited by their socket address; empty means X-Forwarded-For is never used.
+     * Environment variable: RATE_LIMIT_TRUSTED_PROXIES (comma-separated)
+     * Default: none
+     */
+    @Value("${RATE_LIMIT_TRUSTED_PROXIES:}")
+    private List<String> trustedProxies = new ArrayList<>();
+    
     /**
      * Whether to enable rate limit logging for debugging.
      * Environment variable: RATE_LIMIT_ENABLE_LOGGING
@@ -0,0 +1,49 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routing of read-only transactions to a MySQL replica, bound from {@code app.datasource.replica}.
+ * The replica pool itself is bound from {@code app.datasource.replica.hikari}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProps {
+
+    private boolean enabled = false;
+
+    /**
+     * Reads go to the primary while the replica is further behind than this, or its lag is unknown.
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * Treats a replica server that reports no replication status as in sync. Only for tests that
+     * point the replica pool at the primary; otherwise such a server is never used for reads.
+     */
+    private boolean treatNonReplicaAsInSync = false;
+
+    /**
+     * After a write, the same user (or request) keeps reading from the primary for this long.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Classes whose read-only transactions may use the replica; all other transactions stay on the primary.
+     */
+    private List<String> routedClasses = new ArrayList<>(List.of(
+            "com.backend.backend.service.ProductService",
+            "com.backend.backend.service.OrderService",
+            "com.backend.backend.service.CustomerService",
+            "com.backend.backend.service.StockEntryService",
+            "com.backend.backend.service.SupplierService"));
+}
@@ -1,6 +1,7 @@
 package com.backend.backend.config;
 
 import com.backend.backend.infrastructure.config.security.RateLimitFilter;
+import com.backend.backend.security.JwtAuthFilter;
 import com.backend.backend.util.CorsUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,8 +10,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -27,6 +26,7 @@ public class SecurityConfig {
 
     private final CorsProperties corsProperties;
     private final RateLimitFilter rateLimitFilter;
+    private final JwtAuthFilter jwtAuthFilter;
 
     @Value("${CORS_ALLOWED_ORIGINS:http://localhost:3000}")
     private String corsAllowedOrigins;
@@ -37,7 +37,11 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                // JWT phải được xác thực trong chain thì rule hasRole mới thấy user
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // Khôi phục dữ liệu lưu trữ, chạy job: chỉ ADMIN
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers(
                                 "/api/**",
                                 "/v3/api-docs/**",
@@ -50,11 +54,6 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         try {
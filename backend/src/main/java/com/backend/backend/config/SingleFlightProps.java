@@ -0,0 +1,23 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Coalescing of identical concurrent reads on {@code @SingleFlight} methods, bound from {@code app.single-flight}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProps {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a request waits for an identical in-flight one before running on its own.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+}
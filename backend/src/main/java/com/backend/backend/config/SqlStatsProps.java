@@ -0,0 +1,26 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement accounting, bound from {@code app.sql-stats}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-stats")
+public class SqlStatsProps {
+
+    private boolean enabled = true;
+
+    /**
+     * Adds {@code X-Sql-Statements} to API responses. Buffers every response body, so dev only.
+     */
+    private boolean responseHeader = false;
+
+    /**
+     * The same statement shape executed this many times in one request is reported as a likely N+1.
+     */
+    private int repeatedStatementThreshold = 5;
+}
@@ -0,0 +1,32 @@
+package com.backend.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the revoked-token check, bound from {@code app.security.revocation}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.revocation")
+public class TokenRevocationProps {
+
+    /**
+     * Revoked, unexpired tokens the Bloom filter is sized for; beyond it the false-positive
+     * rate (and with it the share of requests checking the database) grows.
+     */
+    private long expectedTokens = 100_000;
+
+    /**
+     * Target share of non-revoked tokens the Bloom filter cannot rule out.
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * How often the filter is rebuilt without the expired tokens, and expired rows are purged.
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,49 @@
+package com.backend.backend.controller;
+
+import com.backend.backend.infrastructure.persistence.archive.ArchivalJob;
+import com.backend.backend.infrastructure.persistence.archive.ArchivedTable;
+import com.backend.backend.infrastructure.persistence.archive.SoftDeleteArchiver;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Archive")
+@RestController
+@RequestMapping("/api/v1/admin/archive")
+@RequiredArgsConstructor
+public class ArchiveController {
+
+    private final SoftDeleteArchiver archiver;
+    private final ArchivalJob archivalJob;
+
+    @Operation(summary = "Restore archived row", description = "Chuyển một dòng từ bảng <table>_archive về bảng chính (deleted_at = NULL)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Khôi phục thành công"),
+            @ApiResponse(responseCode = "400", description = "Bảng không được lưu trữ, bản ghi cha đang ở archive hoặc trùng slug"),
+            @ApiResponse(responseCode = "404", description = "Không có dòng này trong archive")
+    })
+    @PostMapping("/{table}/{id}/restore")
+    public ResponseEntity<Void> restore(@PathVariable String table, @PathVariable Long id) {
+        archiver.restore(ArchivedTable.fromTableName(table), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Run archival now", description = "Chạy job lưu trữ ngay trên thread của job (bất đồng bộ); kết quả xem qua log và metric db.archival.*")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Đã bắt đầu chạy"),
+            @ApiResponse(responseCode = "409", description = "Job đang chạy trên node này")
+    })
+    @PostMapping("/run")
+    public ResponseEntity<Void> run() {
+        HttpStatus status = archivalJob.trigger() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).build();
+    }
+}
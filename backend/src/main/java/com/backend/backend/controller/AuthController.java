@@ -1,9 +1,11 @@
 package com.backend.backend.controller;
 
 import com.backend.backend.security.JwtUtil;
+import com.backend.backend.security.TokenRevocationService;
 import com.backend.backend.entity.User;
 import com.backend.backend.service.JwtTokenService;
 import com.backend.backend.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -32,6 +34,7 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final UserService userService;
 
     @PostMapping("/login")
@@ -104,11 +107,12 @@ public class AuthController {
     public ResponseEntity<Map<String, Object>> refreshToken(@RequestHeader("Authorization") String authHeader) {
         String token = authHeader.substring(7); // Remove "Bearer " prefix
         
-        if (!jwtTokenService.validateToken(token)) {
+        Optional<Claims> claims = jwtTokenService.verify(token);
+        if (claims.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Token không hợp lệ"));
         }
         
-        Optional<User> userOpt = jwtTokenService.getUserFromToken(token);
+        Optional<User> userOpt = jwtTokenService.getUserFromClaims(claims.get());
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Không tìm thấy người dùng"));
         }
@@ -136,11 +140,12 @@ public class AuthController {
         
         String token = authHeader.substring(7);
         
-        if (!jwtTokenService.validateToken(token)) {
+        Optional<Claims> claims = jwtTokenService.verify(token);
+        if (claims.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Token không hợp lệ"));
         }
         
-        Optional<User> userOpt = jwtTokenService.getUserFromToken(token);
+        Optional<User> userOpt = jwtTokenService.getUserFromClaims(claims.get());
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Không tìm thấy người dùng"));
         }
@@ -171,11 +176,12 @@ public class AuthController {
     public ResponseEntity<Map<String, Object>> getProfile(@RequestHeader("Authorization") String authHeader) {
         String token = authHeader.substring(7);
         
-        if (!jwtTokenService.validateToken(token)) {
+        Optional<Claims> claims = jwtTokenService.verify(token);
+        if (claims.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Token không hợp lệ"));
         }
         
-        Optional<User> userOpt = jwtTokenService.getUserFromToken(token);
+        Optional<User> userOpt = jwtTokenService.getUserFromClaims(claims.get());
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(401).body(Map.of("error", "Không tìm thấy người dùng"));
         }
@@ -193,6 +199,57 @@ public class AuthController {
         ));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Thu hồi token hiện tại, token không dùng được nữa kể cả khi chưa hết hạn")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Đăng xuất thành công"),
+            @ApiResponse(responseCode = "401", description = "Token không hợp lệ")
+    })
+    public ResponseEntity<Map<String, Object>> logout(@RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.substring(7);
+        
+        Optional<Claims> claims = jwtTokenService.verify(token);
+        if (claims.isEmpty()) {
+            return ResponseEntity.status(401).body(Map.of("error", "Token không hợp lệ"));
+        }
+        
+        if (!tokenRevocationService.revoke(claims.get())) {
+            // Token cũ không có jti: chỉ thu hồi được toàn bộ token của user
+            Optional<User> userOpt = jwtTokenService.getUserFromClaims(claims.get());
+            if (userOpt.isEmpty()) {
+                return ResponseEntity.status(401).body(Map.of("error", "Không tìm thấy người dùng"));
+            }
+            userService.revokeAllTokens(userOpt.get().getId());
+        }
+        
+        return ResponseEntity.ok(Map.of("message", "Đăng xuất thành công"));
+    }
+
+    @PostMapping("/logout-all")
+    @Operation(summary = "Logout from all devices", description = "Thu hồi mọi token đã cấp cho người dùng hiện tại")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Đã thu hồi toàn bộ token"),
+            @ApiResponse(responseCode = "401", description = "Token không hợp lệ")
+    })
+    public ResponseEntity<Map<String, Object>> logoutAll(@RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.substring(7);
+        
+        Optional<Claims> claims = jwtTokenService.verify(token);
+        if (claims.isEmpty()) {
+            return ResponseEntity.status(401).body(Map.of("error", "Token không hợp lệ"));
+        }
+        
+        Optional<User> userOpt = jwtTokenService.getUserFromClaims(claims.get());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(401).body(Map.of("error", "Không tìm thấy người dùng"));
+        }
+        
+        userService.revokeAllTokens(userOpt.get().getId());
+        return ResponseEntity.ok(Map.of("message", "Đã đăng xuất khỏi tất cả thiết bị"));
+    }
+
     public static class LoginRequest {
         private String username;
         private String password;
@@ -1,10 +1,13 @@
 package com.backend.backend.controller;
 
+import com.backend.backend.config.CacheNames;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.customer.CustomerCreateRequest;
 import com.backend.backend.dto.customer.CustomerResponse;
 import com.backend.backend.dto.customer.CustomerUpdateRequest;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import com.backend.backend.service.CustomerService;
+import com.backend.backend.shared.domain.exception.CustomerException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,9 +23,12 @@ import org.springframework.web.bind.annotation.*;
 public class CustomerController {
 
     private final CustomerService customerService;
+    // Checked here, before the read-only transaction of the service opens
+    private final NegativeCache negativeCache;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, NegativeCache negativeCache) {
         this.customerService = customerService;
+        this.negativeCache = negativeCache;
     }
 
     @PostMapping
@@ -38,6 +44,9 @@ public class CustomerController {
 
     @GetMapping("/{id}")
     public ResponseEntity<CustomerResponse> getById(@PathVariable Long id) {
+        if (negativeCache.isKnownMissing(CacheNames.CUSTOMER_NOT_FOUND, id)) {
+            throw CustomerException.notFound(id);
+        }
         return ResponseEntity.ok(customerService.getById(id));
     }
 
@@ -48,6 +57,9 @@ public class CustomerController {
     @GetMapping("/slug/{slug}")
     public ResponseEntity<CustomerResponse> getBySlug(
             @Parameter(description = "Slug của khách hàng", example = "alice-smith") @PathVariable String slug) {
+        if (negativeCache.isKnownMissing(CacheNames.CUSTOMER_NOT_FOUND, slug)) {
+            throw CustomerException.notFound(slug);
+        }
         return ResponseEntity.ok(customerService.getBySlug(slug));
     }
 
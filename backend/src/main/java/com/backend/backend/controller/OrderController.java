@@ -1,10 +1,13 @@
 package com.backend.backend.controller;
 
+import com.backend.backend.config.CacheNames;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.order.OrderCreateRequest;
 import com.backend.backend.dto.order.OrderResponse;
 import com.backend.backend.dto.order.OrderUpdateRequest;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import com.backend.backend.service.OrderService;
+import com.backend.backend.shared.domain.exception.OrderException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -21,9 +24,12 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    // Checked here, before the read-only transaction of the service opens
+    private final NegativeCache negativeCache;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, NegativeCache negativeCache) {
         this.orderService = orderService;
+        this.negativeCache = negativeCache;
     }
 
     @PostMapping
@@ -39,6 +45,9 @@ public class OrderController {
 
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> getById(@PathVariable Long id) {
+        if (negativeCache.isKnownMissing(CacheNames.ORDER_NOT_FOUND, id)) {
+            throw OrderException.notFound(id);
+        }
         return ResponseEntity.ok(orderService.getById(id));
     }
 
@@ -5,7 +5,12 @@ import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.product.ProductCreateRequest;
 import com.backend.backend.dto.product.ProductResponse;
 import com.backend.backend.dto.product.ProductUpdateRequest;
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.web.cache.ResponseBodyCache;
+import com.backend.backend.infrastructure.web.singleflight.SingleFlight;
 import com.backend.backend.service.ProductService;
+import com.backend.backend.shared.domain.exception.ProductException;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +34,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProductController {
 
     private final ProductService productService;
+    // GET by id/slug and list pages answer cache hits with pre-serialized bytes; identical concurrent
+    // calls of them run once (@SingleFlight)
+    private final ResponseBodyCache responseBodyCache;
+    // Checked here, before the read-only transaction of the service opens
+    private final NegativeCache negativeCache;
 
     @Operation(summary = "Create product", description = "Tạo sản phẩm mới trong hệ thống", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductCreateRequest.class), examples = @ExampleObject(name = "Basic Product", value = """
             {
@@ -70,20 +81,30 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Lấy thông tin thành công", content = @Content(schema = @Schema(implementation = ProductResponse.class))),
             @ApiResponse(responseCode = "404", description = "Không tìm thấy sản phẩm", content = @Content(schema = @Schema(implementation = ApiError.class)))
     })
+    @SingleFlight
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getById(
-            @Parameter(description = "ID của sản phẩm", example = "1") @PathVariable Long id) {
-        return ResponseEntity.ok(productService.getById(id));
+    public ResponseEntity<byte[]> getById(
+            @Parameter(description = "ID của sản phẩm", example = "1") @PathVariable Long id,
+            HttpServletRequest request) {
+        if (negativeCache.isKnownMissing(CacheNames.PRODUCT_NOT_FOUND, id)) {
+            throw ProductException.notFound(id);
+        }
+        return responseBodyCache.ok(productService.getById(id), request);
     }
 
     @Operation(summary = "Get product by slug", description = "Lấy thông tin chi tiết của một sản phẩm bằng slug (SEO-friendly)", responses = {
             @ApiResponse(responseCode = "200", description = "Lấy thông tin thành công", content = @Content(schema = @Schema(implementation = ProductResponse.class))),
             @ApiResponse(responseCode = "404", description = "Không tìm thấy sản phẩm", content = @Content(schema = @Schema(implementation = ApiError.class)))
     })
+    @SingleFlight
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ProductResponse> getBySlug(
-            @Parameter(description = "Slug của sản phẩm", example = "iphone-15-pro") @PathVariable String slug) {
-        return ResponseEntity.ok(productService.getBySlug(slug));
+    public ResponseEntity<byte[]> getBySlug(
+            @Parameter(description = "Slug của sản phẩm", example = "iphone-15-pro") @PathVariable String slug,
+            HttpServletRequest request) {
+        if (negativeCache.isKnownMissing(CacheNames.PRODUCT_NOT_FOUND, slug)) {
+            throw ProductException.notFound(slug);
+        }
+        return responseBodyCache.ok(productService.getBySlug(slug), request);
     }
 
     @Operation(summary = "List products with pagination, sorting, search", description = "Lấy danh sách sản phẩm với hỗ trợ phân trang, sắp xếp và tìm kiếm", parameters = {
@@ -94,13 +115,15 @@ public class ProductController {
     }, responses = {
             @ApiResponse(responseCode = "200", description = "Lấy danh sách thành công", content = @Content(schema = @Schema(implementation = PageResponse.class)))
     })
+    @SingleFlight
     @GetMapping
-    public ResponseEntity<PageResponse<ProductResponse>> list(
+    public ResponseEntity<byte[]> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id,desc") String sort,
-            @RequestParam(required = false) String search) {
-        return ResponseEntity.ok(productService.list(page, size, sort, search));
+            @RequestParam(required = false) String search,
+            HttpServletRequest request) {
+        return responseBodyCache.ok(productService.list(page, size, sort, search), request);
     }
 
     @Operation(summary = "Delete product", description = "Xóa một sản phẩm khỏi hệ thống (soft delete - đánh dấu deleted_at, dữ liệu vẫn còn trong DB)", security = {
@@ -1,10 +1,13 @@
 package com.backend.backend.controller;
 
+import com.backend.backend.config.CacheNames;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.supplier.SupplierCreateRequest;
 import com.backend.backend.dto.supplier.SupplierResponse;
 import com.backend.backend.dto.supplier.SupplierUpdateRequest;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import com.backend.backend.service.SupplierService;
+import com.backend.backend.shared.domain.exception.SupplierException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -21,9 +24,12 @@ import java.util.List;
 public class SupplierController {
 
     private final SupplierService supplierService;
+    // Checked here, before the read-only transaction of the service opens
+    private final NegativeCache negativeCache;
 
-    public SupplierController(SupplierService supplierService) {
+    public SupplierController(SupplierService supplierService, NegativeCache negativeCache) {
         this.supplierService = supplierService;
+        this.negativeCache = negativeCache;
     }
 
     @PostMapping
@@ -39,6 +45,9 @@ public class SupplierController {
 
     @GetMapping("/{id}")
     public ResponseEntity<SupplierResponse> getById(@PathVariable Long id) {
+        if (negativeCache.isKnownMissing(CacheNames.SUPPLIER_NOT_FOUND, id)) {
+            throw SupplierException.notFound(id);
+        }
         return ResponseEntity.ok(supplierService.getById(id));
     }
 
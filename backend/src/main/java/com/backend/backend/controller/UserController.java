@@ -71,4 +71,15 @@ public class UserController {
         userService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "Revoke all tokens of a user", description = "Thu hồi mọi JWT đã cấp cho người dùng (ví dụ khi token bị lộ)", security = @SecurityRequirement(name = "bearer-jwt"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Đã thu hồi"),
+            @ApiResponse(responseCode = "404", description = "Không tìm thấy người dùng")
+    })
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long id) {
+        userService.revokeAllTokens(id);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,13 +1,21 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "customers")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.CUSTOMER)
+@NaturalIdCache(region = EntityCacheRegions.CUSTOMER_SLUG)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Customer extends AuditableEntity {
@@ -19,6 +27,7 @@ public class Customer extends AuditableEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String name;
 
+    @NaturalId(mutable = true)
     @Column(name = "slug", length = 180, nullable = false, unique = true)
     private String slug;
 
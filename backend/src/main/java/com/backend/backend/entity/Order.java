@@ -1,10 +1,13 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -34,6 +37,7 @@ public class Order extends AuditableEntity {
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.ORDER_ITEMS)
     private List<OrderItem> items;
 
     @Version
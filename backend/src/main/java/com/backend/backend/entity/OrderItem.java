@@ -1,15 +1,20 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "order_items")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.ORDER_ITEM)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,14 +1,22 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "products")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.PRODUCT)
+@NaturalIdCache(region = EntityCacheRegions.PRODUCT_SLUG)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Product extends AuditableEntity {
@@ -21,6 +29,7 @@ public class Product extends AuditableEntity {
     @Column(name = "name", nullable = false, columnDefinition = "TEXT")
     private String name;
 
+    @NaturalId(mutable = true)
     @Column(name = "slug", length = 150, nullable = false, unique = true)
     private String slug;
 
@@ -32,5 +41,11 @@ public class Product extends AuditableEntity {
 
     @Column(name = "quantity_in_stock", nullable = false)
     private Integer quantityInStock;
+
+    // Stock is checked on a copy that may come from the second-level cache; a stale copy fails
+    // the update instead of overwriting the stock written by another node
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
 
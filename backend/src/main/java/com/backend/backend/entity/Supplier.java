@@ -1,13 +1,18 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "suppliers")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.SUPPLIER)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Supplier extends AuditableEntity {
@@ -1,18 +1,26 @@
 package com.backend.backend.entity;
 
 import com.backend.backend.entity.base.AuditableEntity;
+import com.backend.backend.infrastructure.persistence.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "users")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.USER)
+@NaturalIdCache(region = EntityCacheRegions.USER_USERNAME)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class User extends AuditableEntity {
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 255)
     private String username;
 
@@ -30,20 +38,12 @@ public class User extends AuditableEntity {
     @Builder.Default
     private Role role = Role.USER;
 
-    // Password hashing methods
-    public void setPassword(String rawPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        this.passwordHash = encoder.encode(rawPassword);
-    }
-
-    public String getPassword() {
-        return this.passwordHash;
-    }
-
-    public boolean checkPassword(String rawPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return encoder.matches(rawPassword, this.passwordHash);
-    }
+    /**
+     * Embedded in issued JWTs; bumping it invalidates every token issued before.
+     */
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
 
     // Additional methods for DDD compliance
     public boolean isActive() {
@@ -60,6 +60,13 @@ public class User extends AuditableEntity {
         delete();
     }
 
+    /**
+     * Invalidates all JWTs issued to this user so far.
+     */
+    public void revokeTokens() {
+        this.tokenVersion = (tokenVersion == null ? 0 : tokenVersion) + 1;
+    }
+
     public boolean hasRole(Role requiredRole) {
         return this.role == requiredRole;
     }
@@ -0,0 +1,138 @@
+package com.backend.backend.infrastructure.cache;
+
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.CacheKeyCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Decorates a node-local cache so that evictions made by {@code @CacheEvict} also reach the other
+ * nodes through the {@link CacheInvalidationBus}. Reads and puts stay local.
+ */
+@Slf4j
+public class ClusterAwareCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheInvalidationBus bus;
+
+    public ClusterAwareCache(Cache delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Finds the cluster-aware layer of a cache returned by the cache manager, which may be wrapped
+     * in a {@link TransactionAwareCacheDecorator}.
+     *
+     * @return the cluster-aware cache, or {@code null} if the cache is not one
+     */
+    public static ClusterAwareCache unwrap(Cache cache) {
+        if (cache instanceof TransactionAwareCacheDecorator transactionAware) {
+            cache = transactionAware.getTargetCache();
+        }
+        return cache instanceof ClusterAwareCache clusterAware ? clusterAware : null;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        broadcast(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        // Other nodes may hold the entry even if we did not.
+        broadcast(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        bus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        bus.publish(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * Applies an eviction received from another node, without broadcasting it again.
+     */
+    public void applyRemote(CacheInvalidation invalidation) {
+        if (CacheKeyCodec.isListChange(invalidation.key())) {
+            // Handled by the list cache invalidator.
+            return;
+        }
+        if (invalidation.isClear()) {
+            delegate.clear();
+        } else {
+            delegate.evict(CacheKeyCodec.decode(invalidation.key()));
+        }
+        log.debug("Applied remote eviction {}[{}] from {}", getName(), invalidation.key(), invalidation.originNode());
+    }
+
+    private void broadcast(Object key) {
+        // Keys the codec cannot represent are broadcast as a full clear.
+        bus.publish(getName(), CacheKeyCodec.encode(key));
+    }
+}
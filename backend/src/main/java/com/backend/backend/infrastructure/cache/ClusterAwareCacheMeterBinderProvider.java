@@ -0,0 +1,21 @@
+package com.backend.backend.infrastructure.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Keeps the {@code cache.*} metrics of caches wrapped in {@link ClusterAwareCache}; the built-in
+ * Caffeine provider only recognises bare {@code CaffeineCache} instances.
+ */
+public class ClusterAwareCacheMeterBinderProvider implements CacheMeterBinderProvider<ClusterAwareCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(ClusterAwareCache cache, Iterable<Tag> tags) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return new CaffeineCacheMetrics<>(caffeine, cache.getName(), tags);
+        }
+        return null;
+    }
+}
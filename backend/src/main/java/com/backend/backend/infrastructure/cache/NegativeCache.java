@@ -0,0 +1,36 @@
+package com.backend.backend.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers ids and slugs that were looked up and not found, so repeated lookups of a missing
+ * entity (crawlers, stale links) are answered without a query.
+ * <p>
+ * Entries live in the short-TTL {@code *-not-found} caches. Services mark a miss when their lookup comes
+ * back empty; controllers check before calling the service, so a known-missing lookup opens no
+ * transaction. Services evict entries with {@code @CacheEvict} whenever an entity with that id or slug
+ * appears (create, slug change, import).
+ */
+@Component
+@RequiredArgsConstructor
+public class NegativeCache {
+
+    private final CacheManager cacheManager;
+
+    public boolean isKnownMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache != null && cache.get(key) != null;
+    }
+
+    public void markMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            // putIfAbsent is applied immediately: the failed lookup's transaction rolls back,
+            // which would drop a transaction-bound put.
+            cache.putIfAbsent(key, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.backend.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Weighs cache entries by the size of their compact JSON form, so a byte budget
+ * ({@code maximumWeight}) bounds the heap a cache can take.
+ * <p>
+ * JSON length is only an estimate of the retained size, but it scales with the payload:
+ * a {@code PageResponse} of 100 products weighs ~100 times a single product.
+ * Bytes are counted, never buffered.
+ */
+@Slf4j
+public class SerializedSizeWeigher implements Weigher<Object, Object> {
+
+    /** Per-entry bookkeeping of the cache itself (node, key reference, timestamps). */
+    static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    /** Weight used when a value cannot be serialized. */
+    static final int FALLBACK_WEIGHT_BYTES = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public SerializedSizeWeigher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD_BYTES + estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    long estimate(Object object) {
+        if (object == null) {
+            return 0;
+        }
+        if (object instanceof String s) {
+            return s.length();
+        }
+        if (object instanceof Number || object instanceof Boolean) {
+            return 8;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(counter, object);
+            return counter.count;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not estimate size of {}: {}", object.getClass().getName(), e.getMessage());
+            return FALLBACK_WEIGHT_BYTES;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.backend.backend.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a late load from overwriting a newer eviction.
+ * <p>
+ * A value loaded through {@link #get(Object, Callable)} is dropped again if its key was evicted (or
+ * the cache cleared) after the load started, however long the load took, since it may have been read
+ * before the write it missed: loads in flight are tracked per key and an eviction marks them stale.
+ * Plain puts within {@code staleWriteWindow} of an eviction of the same key are ignored for the same
+ * reason; a put computed from a read older than that window can still be stale.
+ * <p>
+ * Loads made inside a read-write transaction are returned but not cached: they may see that
+ * transaction's uncommitted changes, and on rollback nothing would evict them.
+ */
+@Slf4j
+public class VersionedCache implements Cache {
+
+    private static final long MAX_TRACKED_EVICTIONS = 10_000;
+
+    private final Cache delegate;
+    private final Duration staleWriteWindow;
+    private final AtomicLong clock = new AtomicLong();
+    /** Key -> clock value of its last eviction; forgotten after {@code staleWriteWindow}. */
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> evictedAt;
+    /** Key -> loads of it in progress through {@link #get(Object, Callable)}; sets are only touched inside compute. */
+    private final Map<Object, Set<Load>> loading = new ConcurrentHashMap<>();
+    private volatile long clearedAt;
+    private volatile long clearedAtNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    public VersionedCache(Cache delegate, Duration staleWriteWindow) {
+        this.delegate = delegate;
+        this.staleWriteWindow = staleWriteWindow;
+        this.evictedAt = Caffeine.newBuilder()
+                .expireAfterWrite(staleWriteWindow)
+                .maximumSize(MAX_TRACKED_EVICTIONS)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (inReadWriteTransaction()) {
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        Load load = new Load(clock.get());
+        loading.compute(key, (k, loads) -> {
+            Set<Load> updated = loads != null ? loads : new HashSet<>();
+            updated.add(load);
+            return updated;
+        });
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value;
+        try {
+            value = delegate.get(key, () -> {
+                loaded.set(true);
+                return valueLoader.call();
+            });
+        } finally {
+            loading.computeIfPresent(key, (k, loads) -> loads.remove(load) && loads.isEmpty() ? null : loads);
+        }
+        if (loaded.get() && (load.stale || clearedAt > load.startedAt)) {
+            // Drop the value again; the caller still gets what it read.
+            delegate.evict(key);
+            log.debug("Discarded stale load of {}[{}]", getName(), key);
+        }
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!recentlyEvicted(key)) {
+            delegate.put(key, value);
+        }
+    }
+
+    /**
+     * @return the existing value, or {@code null} if there was none (also when the put was ignored)
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (recentlyEvicted(key)) {
+            return null;
+        }
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        markEvicted(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        markEvicted(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        markCleared();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        markCleared();
+        return delegate.invalidate();
+    }
+
+    private void markCleared() {
+        clearedAt = clock.incrementAndGet();
+        clearedAtNanos = System.nanoTime();
+        evictedAt.invalidateAll();
+    }
+
+    private void markEvicted(Object key) {
+        evictedAt.put(key, clock.incrementAndGet());
+        loading.computeIfPresent(key, (k, loads) -> {
+            loads.forEach(load -> load.stale = true);
+            return loads;
+        });
+    }
+
+    private boolean recentlyEvicted(Object key) {
+        return evictedAt.getIfPresent(key) != null
+                || System.nanoTime() - clearedAtNanos < staleWriteWindow.toNanos();
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static final class Load {
+        private final long startedAt;
+        private volatile boolean stale;
+
+        private Load(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+/**
+ * One eviction broadcast to the other nodes.
+ *
+ * @param cacheName  cache the eviction applies to
+ * @param key        key encoded by {@link CacheKeyCodec}, or {@code null} to clear the whole cache
+ * @param originNode node that performed the write; it already evicted locally and skips its own messages
+ */
+public record CacheInvalidation(String cacheName, String key, String originNode) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Transport that propagates local cache evictions to every other backend node.
+ * <p>
+ * Selected with {@code app.cache.invalidation.transport}: {@code jdbc} (default, polls a MySQL table)
+ * or {@code none} (single node).
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Broadcasts an eviction. Must not throw: a failed broadcast only degrades other nodes to TTL expiry.
+     */
+    void publish(String cacheName, String encodedKey);
+
+    /**
+     * Broadcasts several evictions at once, in one round trip where the transport allows; their
+     * origin node is ignored. Must not throw.
+     */
+    default void publishAll(Collection<CacheInvalidation> invalidations) {
+        invalidations.forEach(invalidation -> publish(invalidation.cacheName(), invalidation.key()));
+    }
+
+    /**
+     * Registers the handler invoked for evictions coming from other nodes.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * Identifier of this node, used to skip our own messages.
+     */
+    String nodeId();
+}
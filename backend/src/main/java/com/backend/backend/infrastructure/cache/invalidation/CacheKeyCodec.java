@@ -0,0 +1,53 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+/**
+ * Encodes cache keys into a type-tagged string so a remote node evicts the same key object.
+ * <p>
+ * Only the key types our caches use are supported ({@code Long} ids, {@code String} slugs,
+ * {@code Integer} list hashes). Anything else encodes to {@code null}, which remote nodes
+ * treat as "clear the whole cache" — coarse, but never stale.
+ */
+public final class CacheKeyCodec {
+
+    /** Must fit the {@code cache_invalidations.cache_key} column. */
+    public static final int MAX_ENCODED_LENGTH = 512;
+
+    /**
+     * Prefix of messages that carry a list-page change rather than a key; see {@code ListCacheInvalidator}.
+     */
+    public static final String LIST_CHANGE_PREFIX = "C:";
+
+    private CacheKeyCodec() {
+    }
+
+    public static String encode(Object key) {
+        String encoded;
+        if (key instanceof Long l) {
+            encoded = "L:" + l;
+        } else if (key instanceof Integer i) {
+            encoded = "I:" + i;
+        } else if (key instanceof String s) {
+            encoded = "S:" + s;
+        } else {
+            return null;
+        }
+        return encoded.length() <= MAX_ENCODED_LENGTH ? encoded : null;
+    }
+
+    public static boolean isListChange(String encoded) {
+        return encoded != null && encoded.startsWith(LIST_CHANGE_PREFIX);
+    }
+
+    public static Object decode(String encoded) {
+        if (encoded == null || encoded.length() < 2 || encoded.charAt(1) != ':') {
+            throw new IllegalArgumentException("Malformed cache key: " + encoded);
+        }
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'S' -> value;
+            default -> throw new IllegalArgumentException("Unknown cache key type: " + encoded);
+        };
+    }
+}
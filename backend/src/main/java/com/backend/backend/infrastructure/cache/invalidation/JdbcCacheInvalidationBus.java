@@ -0,0 +1,220 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Zero-dependency bus: evictions are rows in {@code cache_invalidations}, which every node polls.
+ * <p>
+ * Each node remembers the highest id it has applied. Auto-increment ids can become visible out of
+ * order (a lower id committing after a higher one), so skipped ids are remembered as gaps and
+ * re-checked until {@code gapTimeout}. Rows older than {@code retention} are purged.
+ * Polling runs on its own thread so it is never delayed by other scheduled work.
+ * <p>
+ * Inserts run in their own transaction ({@code REQUIRES_NEW}) so publishing also works from
+ * after-commit callbacks, where the finished transaction's connection is still bound.
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    static final int BATCH_SIZE = 500;
+    /** Upper bound of remembered gaps; a larger jump means we were far behind anyway. */
+    static final int MAX_TRACKED_GAPS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations newTransaction;
+    private final String nodeId;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final Duration gapTimeout;
+
+    private final List<Consumer<CacheInvalidation>> listeners = new ArrayList<>();
+    /** Missing id -> time (millis) it was first noticed. Guarded by {@code this}. */
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private long lastSeenId = -1;
+    private boolean failing;
+
+    private ScheduledExecutorService scheduler;
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate, TransactionOperations newTransaction, String nodeId,
+                                    Duration pollInterval, Duration retention, Duration gapTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = newTransaction;
+        this.nodeId = nodeId;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+    }
+
+    @Override
+    public void publish(String cacheName, String encodedKey) {
+        try {
+            newTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO cache_invalidations (cache_name, cache_key, origin_node) VALUES (?, ?, ?)",
+                    cacheName, encodedKey, nodeId));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not broadcast eviction of {}[{}]; other nodes will rely on TTL: {}",
+                    cacheName, encodedKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishAll(Collection<CacheInvalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = invalidations.stream()
+                .map(invalidation -> new Object[]{invalidation.cacheName(), invalidation.key(), nodeId})
+                .toList();
+        try {
+            newTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO cache_invalidations (cache_name, cache_key, origin_node) VALUES (?, ?, ?)", rows));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not broadcast {} evictions; other nodes will rely on TTL: {}",
+                    invalidations.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Applies invalidations written by other nodes since the last poll.
+     */
+    synchronized void poll() {
+        if (lastSeenId < 0) {
+            // Start from the current head: anything older predates our (empty) caches.
+            Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+            lastSeenId = max != null ? max : 0;
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!gaps.isEmpty()) {
+            String ids = gaps.keySet().stream().map(String::valueOf).collect(Collectors.joining(","));
+            for (Row row : query("SELECT id, cache_name, cache_key, origin_node FROM cache_invalidations WHERE id IN (" + ids + ")")) {
+                gaps.remove(row.id());
+                deliver(row);
+            }
+            gaps.values().removeIf(noticedAt -> now - noticedAt > gapTimeout.toMillis());
+        }
+
+        List<Row> rows = query("SELECT id, cache_name, cache_key, origin_node FROM cache_invalidations"
+                + " WHERE id > " + lastSeenId + " ORDER BY id LIMIT " + BATCH_SIZE);
+        for (Row row : rows) {
+            for (long missing = lastSeenId + 1; missing < row.id() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            lastSeenId = row.id();
+            deliver(row);
+        }
+    }
+
+    /**
+     * Deletes invalidations every node has long since applied.
+     */
+    void purge() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ? LIMIT 10000",
+                Timestamp.from(Instant.now().minus(retention)));
+        if (deleted > 0) {
+            log.debug("Purged {} cache invalidation rows", deleted);
+        }
+    }
+
+    private List<Row> query(String sql) {
+        return jdbcTemplate.query(sql, (rs, i) -> new Row(
+                rs.getLong("id"), rs.getString("cache_name"), rs.getString("cache_key"), rs.getString("origin_node")));
+    }
+
+    private void deliver(Row row) {
+        if (nodeId.equals(row.originNode())) {
+            return;
+        }
+        CacheInvalidation invalidation = new CacheInvalidation(row.cacheName(), row.cacheKey(), row.originNode());
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply {}: {}", invalidation, e.getMessage());
+            }
+        }
+    }
+
+    private void runSafely(Runnable task, String name) {
+        try {
+            task.run();
+            if (failing) {
+                failing = false;
+                log.info("Cache invalidation {} recovered", name);
+            }
+        } catch (RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                log.warn("Cache invalidation {} failed, will keep retrying: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cache-invalidation-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(() -> runSafely(this::poll, "poll"),
+                0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely(this::purge, "purge"),
+                retention.toMillis(), retention.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Cache invalidation bus started: node={}, poll-interval={}", nodeId, pollInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /** Snapshot of the ids still awaited, for tests. */
+    synchronized List<Long> pendingGaps() {
+        return new ArrayList<>(gaps.keySet());
+    }
+
+    private record Row(long id, String cacheName, String cacheKey, String originNode) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Bus for single-node deployments: evictions stay local.
+ */
+public class NoOpCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final String nodeId;
+
+    public NoOpCacheInvalidationBus(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void publish(String cacheName, String encodedKey) {
+        // single node: nothing to tell
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        // no remote messages
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,111 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import com.backend.backend.infrastructure.cache.ClusterAwareCache;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.CacheKeyCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates list-page caches ({@link TaggedListCache}) for a single-row change instead of flushing them.
+ * <p>
+ * Runs after the surrounding transaction commits. The change itself (id plus before/after snapshots)
+ * is broadcast on the {@link CacheInvalidationBus} so every node evicts the pages it holds; if the
+ * encoded change does not fit a bus message, other nodes clear the list cache instead.
+ */
+@Component
+@Slf4j
+public class ListCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus bus;
+    private final ObjectMapper objectMapper;
+
+    public ListCacheInvalidator(CacheManager cacheManager, CacheInvalidationBus bus, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.bus = bus;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        bus.subscribe(this::onRemote);
+    }
+
+    /**
+     * Records that a row of a list changed.
+     *
+     * @param before response DTO before the write, {@code null} for a create
+     * @param after  response DTO after the write, {@code null} for a delete
+     */
+    public void changed(String cacheName, Object before, Object after) {
+        TaggedListCache cache = taggedCache(cacheName);
+        ListChange change = ListChange.of(before, after, cache != null ? cache.properties() : ListProperties.ID_ONLY);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(cacheName, change);
+                }
+            });
+        } else {
+            apply(cacheName, change);
+        }
+    }
+
+    private void apply(String cacheName, ListChange change) {
+        applyLocally(cacheName, change);
+        bus.publish(cacheName, encode(change));
+    }
+
+    private void applyLocally(String cacheName, ListChange change) {
+        TaggedListCache cache = taggedCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        int evicted = cache.evictAffected(change).size();
+        log.debug("List change of {} id={} evicted {} page(s)", cacheName, change.id(), evicted);
+    }
+
+    private void onRemote(CacheInvalidation invalidation) {
+        if (invalidation.isClear() || !CacheKeyCodec.isListChange(invalidation.key())) {
+            return;
+        }
+        try {
+            ListChange change = objectMapper.readValue(
+                    invalidation.key().substring(CacheKeyCodec.LIST_CHANGE_PREFIX.length()), ListChange.class);
+            applyLocally(invalidation.cacheName(), change);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable list change for {}, clearing it: {}", invalidation.cacheName(), e.getMessage());
+            TaggedListCache cache = taggedCache(invalidation.cacheName());
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * @return the bus key for the change, or {@code null} (clear) if it is too large
+     */
+    private String encode(ListChange change) {
+        try {
+            String encoded = CacheKeyCodec.LIST_CHANGE_PREFIX + objectMapper.writeValueAsString(change);
+            return encoded.length() <= CacheKeyCodec.MAX_ENCODED_LENGTH ? encoded : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private TaggedListCache taggedCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        ClusterAwareCache clusterAware = ClusterAwareCache.unwrap(cache);
+        if (clusterAware != null) {
+            cache = clusterAware.getDelegate();
+        }
+        return cache instanceof TaggedListCache tagged ? tagged : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A row that was inserted, updated or deleted, as seen by list pages.
+ *
+ * @param id     entity id
+ * @param before list properties ({@link ListProperties}) before the write, {@code null} for an insert
+ * @param after  list properties after the write, {@code null} for a delete
+ */
+public record ListChange(Long id, Map<String, Object> before, Map<String, Object> after) {
+
+    public static ListChange of(Object beforeDto, Object afterDto, ListProperties properties) {
+        Set<String> snapshotted = properties.snapshotted();
+        Map<String, Object> before = ListValues.snapshot(beforeDto, snapshotted);
+        Map<String, Object> after = ListValues.snapshot(afterDto, snapshotted);
+        Object id = after != null ? after.get("id") : before != null ? before.get("id") : null;
+        return new ListChange(ListValues.toLong(id), before, after);
+    }
+}
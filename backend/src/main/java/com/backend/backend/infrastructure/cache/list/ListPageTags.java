@@ -0,0 +1,93 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import com.backend.backend.dto.common.PageResponse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What a cached page depends on: the ids it shows (membership tags) and the sort range it covers
+ * (shape tag).
+ * <p>
+ * A change evicts a page when the page shows the changed row, or when a matching row appears,
+ * disappears or moves at or before the end of the page, since that shifts the page's items.
+ * Pages entirely before the change keep their items; their {@code totalElements} may lag by
+ * the changed rows until the entry expires.
+ *
+ * @param ids   ids on the page
+ * @param last  normalized sort value of the last item, {@code null} if unknown
+ * @param full  whether the page is full; a partial (last) page also receives rows sorted after it
+ */
+record ListPageTags(Set<Long> ids, Comparable<?> last, boolean full, boolean unknown) {
+
+    /** Tags for a value we could not inspect: any change evicts it. */
+    static final ListPageTags UNKNOWN = new ListPageTags(Set.of(), null, false, true);
+
+    static ListPageTags of(ListQueryKey key, Object value) {
+        if (!(value instanceof PageResponse<?> page) || page.getItems() == null) {
+            return UNKNOWN;
+        }
+        List<?> items = page.getItems();
+        Set<Long> ids = new HashSet<>();
+        for (Object item : items) {
+            Long id = ListValues.toLong(ListValues.read(item, "id"));
+            if (id == null) {
+                return UNKNOWN;
+            }
+            ids.add(id);
+        }
+        Comparable<?> last = items.isEmpty()
+                ? null
+                : ListValues.normalize(ListValues.read(items.get(items.size() - 1), key.sortProperty()));
+        return new ListPageTags(ids, last, items.size() >= key.size(), false);
+    }
+
+    boolean isAffectedBy(ListQueryKey key, ListChange change, String searchProperty) {
+        if (unknown || (change.id() != null && ids.contains(change.id()))) {
+            return true;
+        }
+        boolean beforeMatches = matches(change.before(), key, searchProperty);
+        boolean afterMatches = matches(change.after(), key, searchProperty);
+        if (!beforeMatches && !afterMatches) {
+            return false;
+        }
+        if (beforeMatches && afterMatches) {
+            Integer moved = ListValues.compare(
+                    ListValues.normalize(change.before().get(key.sortProperty())),
+                    ListValues.normalize(change.after().get(key.sortProperty())));
+            if (moved != null && moved == 0) {
+                // Same position in this query and not on this page: nothing to do.
+                return false;
+            }
+        }
+        return (beforeMatches && shifts(change.before(), key)) || (afterMatches && shifts(change.after(), key));
+    }
+
+    private static boolean matches(Map<String, Object> snapshot, ListQueryKey key, String searchProperty) {
+        if (snapshot == null) {
+            return false;
+        }
+        if (!key.hasSearch()) {
+            return true;
+        }
+        Object text = snapshot.get(searchProperty);
+        // Unknown text: assume it matches.
+        return !(text instanceof String s) || ListValues.fold(s).contains(ListValues.fold(key.search()));
+    }
+
+    /**
+     * Whether a row at this sort position lands at or before the end of this page.
+     */
+    private boolean shifts(Map<String, Object> snapshot, ListQueryKey key) {
+        if (!full || last == null) {
+            return true;
+        }
+        Integer cmp = ListValues.compare(ListValues.normalize(snapshot.get(key.sortProperty())), last);
+        if (cmp == null) {
+            return true;
+        }
+        return (key.direction().isDescending() ? -cmp : cmp) <= 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Response properties a list's queries depend on: the one its free-text search filters on and the
+ * ones it is usually sorted by. Only these (plus the id) go into a {@link ListChange}.
+ * <p>
+ * Sorting by any other property still works; changes then carry no value for it and evict every
+ * page of that order.
+ *
+ * @param search response property the free-text search filters on, {@code null} if there is no search
+ * @param sort   properties the list is usually sorted by
+ */
+public record ListProperties(String search, Set<String> sort) {
+
+    /** For caches that are not tagged: only the id is tracked. */
+    static final ListProperties ID_ONLY = new ListProperties(null, Set.of());
+
+    public static ListProperties of(String search, String... sort) {
+        return new ListProperties(search, Set.of(sort));
+    }
+
+    /**
+     * Properties captured in a change snapshot, id first.
+     */
+    Set<String> snapshotted() {
+        Set<String> properties = new LinkedHashSet<>();
+        properties.add(ListQueryKey.DEFAULT_SORT_PROPERTY);
+        if (search != null) {
+            properties.add(search);
+        }
+        properties.addAll(sort);
+        return properties;
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+/**
+ * Normalized key of a cached list page.
+ * <p>
+ * Equivalent requests map to the same key ({@code "name"} and {@code "name , ASC"}, {@code " Phone"} and
+ * {@code "phone"}), and the key is compared structurally, so unlike a hash of the parameters two
+ * different queries can never share an entry. Services run the query from the key so what is cached
+ * always matches the key.
+ */
+public record ListQueryKey(int page, int size, String sortProperty, Sort.Direction direction, String search) {
+
+    public static final String DEFAULT_SORT_PROPERTY = "id";
+
+    /**
+     * @param sort   {@code property} or {@code property,asc|desc}; blank means newest first ({@code id,desc})
+     * @param search free text, trimmed and lower-cased; blank means no filter
+     */
+    public static ListQueryKey of(int page, int size, String sort, String search) {
+        String property = DEFAULT_SORT_PROPERTY;
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            property = parts[0].trim();
+            direction = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())
+                    ? Sort.Direction.DESC
+                    : Sort.Direction.ASC;
+        }
+        String normalizedSearch = search == null || search.isBlank() ? null : search.trim().toLowerCase(Locale.ROOT);
+        return new ListQueryKey(page, size, property, direction, normalizedSearch);
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page, size, Sort.by(direction, sortProperty));
+    }
+
+    public boolean hasSearch() {
+        return search != null;
+    }
+}
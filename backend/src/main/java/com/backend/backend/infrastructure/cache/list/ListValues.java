@@ -0,0 +1,90 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property access and comparison rules shared by page tags and change snapshots.
+ * <p>
+ * Values are compared the way MySQL's default collation roughly does (case and accent insensitive).
+ * Anything that cannot be compared reliably is "unknown" ({@code null}) and callers must then assume
+ * the page is affected.
+ */
+final class ListValues {
+
+    /** Longer strings are left out of snapshots; they are never useful as sort keys. */
+    static final int MAX_SNAPSHOT_STRING_LENGTH = 100;
+
+    private ListValues() {
+    }
+
+    /**
+     * The given properties of a response DTO that are numbers or short strings; others are left out.
+     */
+    static Map<String, Object> snapshot(Object dto, Set<String> properties) {
+        if (dto == null) {
+            return null;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        BeanWrapper wrapper = new BeanWrapperImpl(dto);
+        for (String property : properties) {
+            Object value = wrapper.isReadableProperty(property) ? wrapper.getPropertyValue(property) : null;
+            if (value instanceof Number
+                    || (value instanceof String s && s.length() <= MAX_SNAPSHOT_STRING_LENGTH)) {
+                values.put(property, value);
+            }
+        }
+        return values;
+    }
+
+    static Object read(Object dto, String property) {
+        BeanWrapper wrapper = new BeanWrapperImpl(dto);
+        return wrapper.isReadableProperty(property) ? wrapper.getPropertyValue(property) : null;
+    }
+
+    static Long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : null;
+    }
+
+    /**
+     * Comparable form of a value: {@link BigDecimal} for numbers, folded text for strings, otherwise {@code null}.
+     */
+    static Comparable<?> normalize(Object value) {
+        if (value instanceof Number n) {
+            try {
+                return new BigDecimal(n.toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (value instanceof String s) {
+            return fold(s);
+        }
+        return null;
+    }
+
+    /**
+     * @return the comparison of two normalized values, or {@code null} if they are not comparable
+     */
+    static Integer compare(Comparable<?> a, Comparable<?> b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y);
+        }
+        if (a instanceof String x && b instanceof String y) {
+            return x.compareTo(y);
+        }
+        return null;
+    }
+
+    static String fold(String s) {
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return decomposed.replace('đ', 'd').replace('Đ', 'D').toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,158 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import org.springframework.cache.Cache;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * List-page cache keyed by {@link ListQueryKey} that remembers the {@link ListPageTags} of every page it
+ * stores, so a single-row change evicts only the pages it can affect ({@link #evictAffected}).
+ * <p>
+ * Tags of entries that expired or were evicted for size are dropped lazily. A page whose tags are
+ * missing is treated as affected by every change.
+ */
+public class TaggedListCache implements Cache {
+
+    private final Cache delegate;
+    private final ListProperties properties;
+    private final Map<Object, ListPageTags> tags = new ConcurrentHashMap<>();
+
+    public TaggedListCache(Cache delegate, ListProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+    }
+
+    /**
+     * Properties a {@link ListChange} for this list must carry.
+     */
+    public ListProperties properties() {
+        return properties;
+    }
+
+    /**
+     * Evicts the pages the change can affect, on this node only. Cached pages without tags
+     * (still being stored, or not a {@link ListQueryKey}) are evicted too.
+     *
+     * @return the evicted keys
+     */
+    public Set<Object> evictAffected(ListChange change) {
+        if (!(delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            clear();
+            return Set.of();
+        }
+        Set<Object> affected = new LinkedHashSet<>();
+        for (Object key : caffeine.asMap().keySet()) {
+            ListPageTags pageTags = tags.get(key);
+            if (pageTags == null
+                    || !(key instanceof ListQueryKey query)
+                    || pageTags.isAffectedBy(query, change, properties.search())) {
+                affected.add(key);
+            }
+        }
+        affected.forEach(this::evict);
+        tags.keySet().retainAll(caffeine.asMap().keySet());
+        return affected;
+    }
+
+    int trackedPages() {
+        return tags.size();
+    }
+
+    private void tag(Object key, Object value) {
+        tags.put(key, key instanceof ListQueryKey query ? ListPageTags.of(query, value) : ListPageTags.UNKNOWN);
+        if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine
+                && tags.size() > 2 * caffeine.estimatedSize() + 64) {
+            // Drop tags of pages that expired; a page losing its tags is only evicted more eagerly.
+            tags.keySet().removeIf(k -> !k.equals(key) && !caffeine.asMap().containsKey(k));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            T value = valueLoader.call();
+            tag(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, () -> valueLoader.get().thenApply(value -> {
+            tag(key, value);
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        tag(key, value);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            tag(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        tags.remove(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        tags.remove(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        tags.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        tags.clear();
+        return invalidated;
+    }
+}
@@ -0,0 +1,84 @@
+package com.backend.backend.infrastructure.cache.refresh;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reloaders and the shared, bounded executor behind refresh-ahead caches.
+ * <p>
+ * The executor is monitored as {@code executor.*{name=cache.refresh}}. When its queue is full a refresh
+ * is rejected (counted in {@code cache.refresh.rejected}) and the entry simply keeps serving its current
+ * value; it is refreshed on a later read or expires.
+ */
+@Slf4j
+public class CacheRefreshSupport implements DisposableBean {
+
+    private final Map<String, CacheReloader> reloaders = new HashMap<>();
+    private final ExecutorService executor;
+    private final TransactionOperations readOnlyTx;
+    private final MeterRegistry registry;
+
+    public CacheRefreshSupport(int coreThreads, int maxThreads, int queueCapacity,
+                               TransactionOperations readOnlyTx, MeterRegistry registry) {
+        this.readOnlyTx = readOnlyTx;
+        this.registry = registry;
+
+        Counter rejected = Counter.builder("cache.refresh.rejected")
+                .description("Refreshes dropped because the refresh executor was saturated")
+                .register(registry);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(coreThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, exec) -> {
+                    rejected.increment();
+                    // Caffeine drops the refresh and keeps the current value.
+                    throw new RejectedExecutionException("Cache refresh queue is full");
+                });
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, "cache.refresh");
+    }
+
+    public CacheRefreshSupport register(String cacheName, CacheReloader reloader) {
+        reloaders.put(cacheName, reloader);
+        return this;
+    }
+
+    public boolean hasReloader(String cacheName) {
+        return reloaders.containsKey(cacheName);
+    }
+
+    /**
+     * Loader for a cache with {@code refresh-after}, or empty if no reloader is registered for it.
+     */
+    public Optional<CacheLoader<Object, Object>> loaderFor(String cacheName) {
+        CacheReloader reloader = reloaders.get(cacheName);
+        if (reloader == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshAheadCacheLoader(cacheName, reloader, executor, readOnlyTx, registry));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
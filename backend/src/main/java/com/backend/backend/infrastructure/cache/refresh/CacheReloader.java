@@ -0,0 +1,11 @@
+package com.backend.backend.infrastructure.cache.refresh;
+
+/**
+ * Reloads the current value of one cache key, e.g. by id from the repository.
+ * Returning {@code null} (entity gone) removes the entry.
+ */
+@FunctionalInterface
+public interface CacheReloader {
+
+    Object reload(Object key);
+}
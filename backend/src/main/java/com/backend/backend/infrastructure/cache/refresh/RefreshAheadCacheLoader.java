@@ -0,0 +1,74 @@
+package com.backend.backend.infrastructure.cache.refresh;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine loader used only for refresh-ahead ({@code refreshAfterWrite}).
+ * <p>
+ * Initial loads still go through {@code @Cacheable(sync = true)}, so {@link #load} never hits the database.
+ * Once an entry is older than {@code refresh-after} the next read returns it immediately and triggers
+ * {@link #asyncReload} on the bounded refresh executor. If the reload fails the old value is kept
+ * until it expires; if the entry is evicted meanwhile, Caffeine discards the reloaded value.
+ */
+@Slf4j
+class RefreshAheadCacheLoader implements CacheLoader<Object, Object> {
+
+    private final String cacheName;
+    private final CacheReloader reloader;
+    private final Executor executor;
+    private final TransactionOperations readOnlyTx;
+    private final Timer success;
+    private final Timer failure;
+
+    RefreshAheadCacheLoader(String cacheName, CacheReloader reloader, Executor executor,
+                            TransactionOperations readOnlyTx, MeterRegistry registry) {
+        this.cacheName = cacheName;
+        this.reloader = reloader;
+        this.executor = executor;
+        this.readOnlyTx = readOnlyTx;
+        this.success = timer(registry, cacheName, "success");
+        this.failure = timer(registry, cacheName, "failure");
+    }
+
+    private static Timer timer(MeterRegistry registry, String cacheName, String outcome) {
+        return Timer.builder("cache.refresh")
+                .description("Refresh-ahead reloads")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Override
+    public Object load(Object key) {
+        // Misses are loaded by the @Cacheable method itself.
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        long start = System.nanoTime();
+        try {
+            Object value = readOnlyTx.execute(status -> reloader.reload(key));
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return value;
+        } catch (RuntimeException e) {
+            failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("Refresh of {}[{}] failed, keeping the current value: {}", cacheName, key, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor ignored) {
+        // Our own bounded executor instead of Caffeine's (the common pool).
+        return CompletableFuture.supplyAsync(() -> reload(key, oldValue), executor);
+    }
+}
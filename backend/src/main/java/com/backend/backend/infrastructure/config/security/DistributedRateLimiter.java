@@ -0,0 +1,230 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits shared by all nodes, so a client gets its quota once rather than once per replica.
+ * <p>
+ * Each tier's quota is counted per fixed window in {@link RateLimitQuotaStore}. Nodes do not ask
+ * the store per request: they lease a few tokens at a time (at most {@code leaseSize}, and at most
+ * 5% of the limit) and hand them out locally with a CAS, so only one request per lease reaches the
+ * database. Once the store reports the window used up, the node rejects locally until the next
+ * window. Tokens still leased when a window ends are lost, so a client may get slightly less than
+ * its limit, never more.
+ * <p>
+ * If the store cannot be reached (connection, timeout or transaction failures), requests fall back
+ * to the node-local buckets of {@link LocalRateLimiter} for {@code storeRetrySeconds} before the
+ * store is tried again. Any other SQL error only sends that one request to the local buckets, so a
+ * single bad key cannot switch the whole node to local limits.
+ */
+@Slf4j
+public class DistributedRateLimiter implements RateLimiter {
+
+    private static final long PURGE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final RateLimitProperties props;
+    private final RateLimitQuotaStore store;
+    private final LocalRateLimiter fallback;
+    private final LongSupplier clock;
+    private final Cache<BucketKey, Lease> leases;
+    private final Map<RateLimitTier, Counter> throttled;
+    private final Counter storeFailures;
+    private final long longestWindowMillis;
+    private final AtomicLong lastPurge = new AtomicLong();
+    private volatile long storeDownUntil;
+
+    public DistributedRateLimiter(RateLimitProperties props, RateLimitQuotaStore store, LocalRateLimiter fallback,
+                                  MeterRegistry meterRegistry) {
+        this(props, store, fallback, meterRegistry, System::currentTimeMillis);
+    }
+
+    DistributedRateLimiter(RateLimitProperties props, RateLimitQuotaStore store, LocalRateLimiter fallback,
+                           MeterRegistry meterRegistry, LongSupplier clock) {
+        this.props = props;
+        this.store = store;
+        this.fallback = fallback;
+        this.clock = clock;
+        this.longestWindowMillis = Arrays.stream(RateLimitTier.values())
+                .mapToLong(tier -> tier.window(props).toMillis())
+                .max()
+                .orElseThrow();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(props.getMaxTrackedClients())
+                .expireAfterAccess(Duration.ofMillis(longestWindowMillis))
+                .build();
+        this.throttled = RateLimiter.throttledCounters(meterRegistry);
+        this.storeFailures = Counter.builder("rate.limit.store.failures")
+                .description("Quota store calls that failed; the node used its local limits meanwhile")
+                .register(meterRegistry);
+        this.lastPurge.set(clock.getAsLong());
+    }
+
+    @Override
+    public Decision tryAcquire(RateLimitTier tier, String clientKey) {
+        long now = clock.getAsLong();
+        if (now < storeDownUntil) {
+            return fallback.tryAcquire(tier, clientKey);
+        }
+        long limit = tier.capacity(props);
+        long windowMillis = tier.window(props).toMillis();
+        long windowStart = now - now % windowMillis;
+        BucketKey key = new BucketKey(tier, clientKey);
+        Lease lease = leases.get(key, k -> new Lease());
+
+        if (lease.tryTake(windowStart)) {
+            return new Decision(true, limit, lease.remaining(), 0);
+        }
+        // A lock rather than a monitor: the reservation blocks on JDBC, which would pin a virtual thread.
+        lease.refillLock.lock();
+        try {
+            if (lease.tryTake(windowStart)) {
+                return new Decision(true, limit, lease.remaining(), 0);
+            }
+            if (!lease.isExhausted(windowStart)) {
+                try {
+                    RateLimitQuotaStore.Reservation reservation =
+                            store.reserve(key.storeKey(), windowStart, leaseSize(limit), limit);
+                    lease.refill(windowStart, reservation.granted(), reservation.unreserved());
+                } catch (DataAccessException | TransactionException e) {
+                    if (isOutage(e)) {
+                        storeUnavailable(e);
+                    } else {
+                        storeFailures.increment();
+                        log.warn("Rate limit quota reservation failed for one key, using node-local limits: {}",
+                                e.getMessage());
+                    }
+                    return fallback.tryAcquire(tier, clientKey);
+                }
+                purgeIfDue(now);
+                if (lease.tryTake(windowStart)) {
+                    return new Decision(true, limit, lease.remaining(), 0);
+                }
+            }
+        } finally {
+            lease.refillLock.unlock();
+        }
+        throttled.get(tier).increment();
+        long retryAfterMillis = windowStart + windowMillis - now;
+        return new Decision(false, limit, 0, TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+    }
+
+    private long leaseSize(long limit) {
+        return Math.max(1, Math.min(props.getLeaseSize(), limit / 20));
+    }
+
+    static boolean isOutage(RuntimeException e) {
+        return e instanceof TransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException;
+    }
+
+    private void storeUnavailable(RuntimeException e) {
+        storeFailures.increment();
+        if (clock.getAsLong() >= storeDownUntil) {
+            log.warn("Rate limit quota store unavailable, using node-local limits for {}s: {}",
+                    props.getStoreRetrySeconds(), e.getMessage());
+        }
+        storeDownUntil = clock.getAsLong() + TimeUnit.SECONDS.toMillis(props.getStoreRetrySeconds());
+    }
+
+    private void purgeIfDue(long now) {
+        long last = lastPurge.get();
+        if (now - last < PURGE_INTERVAL_MILLIS || !lastPurge.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            int purged = store.purgeBefore(now - 2 * longestWindowMillis);
+            log.debug("Purged {} expired rate limit quota(s)", purged);
+        } catch (DataAccessException e) {
+            log.debug("Rate limit quota purge failed: {}", e.getMessage());
+        }
+    }
+
+    private record BucketKey(RateLimitTier tier, String clientKey) {
+
+        String storeKey() {
+            return DistributedRateLimiter.storeKey(tier, clientKey);
+        }
+    }
+
+    /**
+     * Client keys come from request data of any length; hashing keeps the key within
+     * {@code bucket_key VARCHAR(100)}.
+     */
+    static String storeKey(RateLimitTier tier, String clientKey) {
+        return tier.name().toLowerCase() + ":" + sha256(clientKey);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tokens this node reserved for one client and tier in the current window. Taking a token is
+     * lock-free; refills happen under the lease's refill lock.
+     */
+    static final class Lease {
+
+        private final AtomicLong tokens = new AtomicLong();
+        final ReentrantLock refillLock = new ReentrantLock();
+        private volatile long windowStart = -1;
+        private volatile long unreserved;
+
+        boolean tryTake(long currentWindow) {
+            if (windowStart != currentWindow) {
+                return false;
+            }
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        boolean isExhausted(long currentWindow) {
+            return windowStart == currentWindow && unreserved == 0 && tokens.get() <= 0;
+        }
+
+        void refill(long currentWindow, long granted, long unreservedInWindow) {
+            // Tokens first: a reader that sees the new window must also see its tokens.
+            tokens.set(granted);
+            unreserved = unreservedInWindow;
+            windowStart = currentWindow;
+        }
+
+        long remaining() {
+            return Math.max(0, tokens.get()) + unreserved;
+        }
+    }
+}
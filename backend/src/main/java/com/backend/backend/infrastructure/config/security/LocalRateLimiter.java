@@ -0,0 +1,73 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.local.SynchronizationStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Node-local token buckets per client and {@link RateLimitTier}.
+ * <p>
+ * Buckets are lock-free (CAS) Bucket4j buckets kept in a bounded Caffeine map. A bucket idle for
+ * longer than its window would be full again, so it is dropped after that long without access
+ * instead of being kept for every address ever seen.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final RateLimitProperties props;
+    private final Cache<BucketKey, Bucket> buckets;
+    private final Map<RateLimitTier, Counter> throttled;
+
+    public LocalRateLimiter(RateLimitProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        Duration longestWindow = Arrays.stream(RateLimitTier.values())
+                .map(tier -> tier.window(props))
+                .max(Duration::compareTo)
+                .orElseThrow();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(props.getMaxTrackedClients())
+                .expireAfterAccess(longestWindow)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit-buckets");
+        this.throttled = RateLimiter.throttledCounters(meterRegistry);
+    }
+
+    @Override
+    public Decision tryAcquire(RateLimitTier tier, String clientKey) {
+        Bucket bucket = buckets.get(new BucketKey(tier, clientKey), this::newBucket);
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (!probe.isConsumed()) {
+            throttled.get(tier).increment();
+        }
+        return new Decision(probe.isConsumed(), tier.capacity(props), probe.getRemainingTokens(),
+                probe.getNanosToWaitForRefill());
+    }
+
+    long trackedBuckets() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private Bucket newBucket(BucketKey key) {
+        int capacity = key.tier().capacity(props);
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(capacity, key.tier().window(props))))
+                .withSynchronizationStrategy(SynchronizationStrategy.LOCK_FREE)
+                .build();
+    }
+
+    private record BucketKey(RateLimitTier tier, String clientKey) {
+    }
+}
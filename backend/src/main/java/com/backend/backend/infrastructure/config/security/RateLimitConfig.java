@@ -0,0 +1,38 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Node-local limits by default; {@code RATE_LIMIT_MODE=distributed} shares quotas across nodes
+ * through the database, keeping the local limiter as fallback.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public LocalRateLimiter localRateLimiter(RateLimitProperties props, MeterRegistry meterRegistry) {
+        return new LocalRateLimiter(props, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "RATE_LIMIT_MODE", havingValue = "distributed")
+    public DistributedRateLimiter distributedRateLimiter(RateLimitProperties props, LocalRateLimiter localRateLimiter,
+                                                         JdbcTemplate jdbcTemplate,
+                                                         PlatformTransactionManager transactionManager,
+                                                         MeterRegistry meterRegistry) {
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new DistributedRateLimiter(props, new RateLimitQuotaStore(jdbcTemplate, newTransaction),
+                localRateLimiter, meterRegistry);
+    }
+}
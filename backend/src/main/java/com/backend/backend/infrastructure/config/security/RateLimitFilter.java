@@ -1,74 +1,133 @@
 package com.backend.backend.infrastructure.config.security;
 
-// Temporarily disabled Bucket4j imports for compilation
-// import com.github.bucket4j.Bucket;
-// import com.github.bucket4j.Bucket4j;
-// import com.github.bucket4j.Refill;
-// import com.github.bucket4j.Bandwidth;
-import jakarta.servlet.Filter;
+import com.backend.backend.config.RateLimitProperties;
+import com.backend.backend.infrastructure.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * Per-client rate limiting by route tier (see {@link RateLimitTier}). Every limited response carries
+ * {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining}; rejected requests get a 429 with
+ * {@code Retry-After}.
+ * <p>
+ * Clients are keyed by socket address. {@code X-Forwarded-For} is only read when the peer is one of
+ * {@code trusted-proxies}, and then the right-most hop that is not a trusted proxy is the client:
+ * hops further left were written by the client itself. (With {@code server.forward-headers-strategy}
+ * the container already resolves the address and the list stays empty.)
+ */
 @Component
 @Slf4j
-public class RateLimitFilter implements Filter {
-    
-    // Temporarily disabled for compilation
-    // private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-    
-    // Rate limit: 100 requests per minute per IP
-    private static final int REQUEST_LIMIT = 100;
-    private static final Duration TIME_WINDOW = Duration.ofMinutes(1);
-    
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    /** Longest IPv6 literal; anything longer is not an address. */
+    static final int MAX_CLIENT_KEY_LENGTH = 45;
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private final RateLimitProperties props;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimitProperties props, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.props = props;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = props.getTrustedProxies().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-        
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-        
-        // String clientIp = getClientIpAddress(httpRequest);
-        // Temporarily disable bucket4j functionality
-        // Bucket bucket = getBucket(clientIp);
-        
-        // Temporarily allow all requests
-        chain.doFilter(request, response);
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !props.isEnabled();
     }
-    
-    // Temporarily disabled for compilation
-    /*
-    private Bucket getBucket(String key) {
-        return buckets.computeIfAbsent(key, k -> {
-            Bandwidth limit = Bandwidth.classic(REQUEST_LIMIT, Refill.intervally(REQUEST_LIMIT, TIME_WINDOW));
-            return Bucket4j.builder()
-                    .addLimit(limit)
-                    .build();
-        });
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        RateLimitTier tier = RateLimitTier.resolve(request.getRequestURI());
+        if (tier == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String client = getClientIpAddress(request);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(tier, client);
+        response.setHeader(LIMIT_HEADER, Long.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999));
+        if (props.isEnableLogging()) {
+            log.info("Rate limit exceeded: client={}, tier={}, path={}", client, tier, request.getRequestURI());
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(OffsetDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(props.getMessage())
+                .path(request.getRequestURI())
+                .build());
     }
-    
-    private String getClientIpAddress(HttpServletRequest request) {
+
+    String getClientIpAddress(HttpServletRequest request) {
+        String peer = request.getRemoteAddr();
         String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+        if (xForwardedFor == null || xForwardedFor.isBlank() || !isTrustedProxy(peer)) {
+            return peer;
+        }
+        String[] hops = xForwardedFor.split(",");
+        String client = peer;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client.length() > MAX_CLIENT_KEY_LENGTH ? client.substring(0, MAX_CLIENT_KEY_LENGTH) : client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        // Chỉ so khớp địa chỉ IP: IpAddressMatcher sẽ tra DNS nếu gặp hostname
+        if (trustedProxies.isEmpty() || !IP_LITERAL.matcher(address).matches()) {
+            return false;
         }
-        
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+        try {
+            return trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
         }
-        
-        return request.getRemoteAddr();
     }
-    */
 }
@@ -0,0 +1,58 @@
+package com.backend.backend.infrastructure.config.security;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Cluster-wide quotas in {@code rate_limit_quotas}: per bucket key, the tokens handed out in the
+ * current fixed window.
+ * <p>
+ * Reservations run in their own transaction: the upsert locks the row, so concurrent nodes
+ * reserving for the same client are serialized and never hand out more than the limit in total.
+ * A node whose clock is behind adds to the newer window instead of resetting it.
+ */
+public class RateLimitQuotaStore {
+
+    private static final String RESERVE = "INSERT INTO rate_limit_quotas (bucket_key, window_start, used)"
+            + " VALUES (?, ?, ?) AS new"
+            + " ON DUPLICATE KEY UPDATE"
+            + " used = IF(new.window_start > rate_limit_quotas.window_start, new.used, rate_limit_quotas.used + new.used),"
+            + " window_start = GREATEST(rate_limit_quotas.window_start, new.window_start)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations newTransaction;
+
+    public RateLimitQuotaStore(JdbcTemplate jdbcTemplate, TransactionOperations newTransaction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = newTransaction;
+    }
+
+    /**
+     * Reserves up to {@code tokens} of the {@code limit} tokens of the window starting at {@code windowStart}.
+     */
+    public Reservation reserve(String bucketKey, long windowStart, long tokens, long limit) {
+        return newTransaction.execute(status -> {
+            jdbcTemplate.update(RESERVE, bucketKey, windowStart, tokens);
+            Long used = jdbcTemplate.queryForObject(
+                    "SELECT used FROM rate_limit_quotas WHERE bucket_key = ?", Long.class, bucketKey);
+            long usedAfter = used != null ? used : tokens;
+            long usedBefore = usedAfter - tokens;
+            long granted = Math.max(0, Math.min(tokens, limit - usedBefore));
+            return new Reservation(granted, Math.max(0, limit - usedAfter));
+        });
+    }
+
+    /**
+     * Deletes quotas of windows that started before {@code windowStart}.
+     */
+    public int purgeBefore(long windowStart) {
+        return jdbcTemplate.update("DELETE FROM rate_limit_quotas WHERE window_start < ? LIMIT 10000", windowStart);
+    }
+
+    /**
+     * @param granted    tokens this node may hand out locally
+     * @param unreserved tokens of the window no node has reserved yet
+     */
+    public record Reservation(long granted, long unreserved) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+
+import java.time.Duration;
+
+/**
+ * Rate-limit classes of routes, each with its own bucket per client (see {@link RateLimitProperties}).
+ */
+public enum RateLimitTier {
+
+    /** Login, registration and token endpoints: low limit against credential stuffing. */
+    AUTH,
+    /** Catalog, health and API docs. */
+    PUBLIC,
+    /** Every other {@code /api/**} route. */
+    API;
+
+    /**
+     * @return the tier of a request path, or {@code null} if the path is not rate limited
+     */
+    public static RateLimitTier resolve(String path) {
+        if (path.startsWith("/api/v1/rate-limit-test/")) {
+            // Test endpoints map 1:1 to the tiers.
+            return switch (path.substring("/api/v1/rate-limit-test/".length())) {
+                case "auth" -> AUTH;
+                case "public" -> PUBLIC;
+                case "api" -> API;
+                default -> null;
+            };
+        }
+        if (path.startsWith("/auth/") || path.startsWith("/api/v1/auth/")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/v1/products") || path.equals("/actuator/health")
+                || path.startsWith("/v3/api-docs") || path.startsWith("/swagger-ui")) {
+            return PUBLIC;
+        }
+        if (path.startsWith("/api/")) {
+            return API;
+        }
+        return null;
+    }
+
+    public int capacity(RateLimitProperties props) {
+        return switch (this) {
+            case AUTH -> props.getAuthRequests();
+            case PUBLIC -> props.getPublicRequests();
+            case API -> props.getApiRequests();
+        };
+    }
+
+    public Duration window(RateLimitProperties props) {
+        return Duration.ofSeconds(switch (this) {
+            case AUTH -> props.getAuthWindowSeconds();
+            case PUBLIC -> props.getPublicWindowSeconds();
+            case API -> props.getApiWindowSeconds();
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.backend.infrastructure.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Decides whether a client may make one more request in a {@link RateLimitTier}.
+ *
+ * @see LocalRateLimiter
+ * @see DistributedRateLimiter
+ */
+public interface RateLimiter {
+
+    /**
+     * Takes one token from the client's quota of {@code tier}.
+     */
+    Decision tryAcquire(RateLimitTier tier, String clientKey);
+
+    /**
+     * Counters of rejected requests per tier, shared by the implementations.
+     */
+    static Map<RateLimitTier, Counter> throttledCounters(MeterRegistry meterRegistry) {
+        Map<RateLimitTier, Counter> counters = new EnumMap<>(RateLimitTier.class);
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            counters.put(tier, Counter.builder("rate.limit.throttled")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("tier", tier.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+
+    /**
+     * @param remaining       tokens left; an estimate for the distributed limiter
+     * @param retryAfterNanos time until the next token, when {@code allowed} is false
+     */
+    record Decision(boolean allowed, long limit, long remaining, long retryAfterNanos) {
+    }
+}
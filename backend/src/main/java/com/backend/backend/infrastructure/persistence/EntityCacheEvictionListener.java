@@ -0,0 +1,265 @@
+package com.backend.backend.infrastructure.persistence;
+
+import com.backend.backend.entity.Order;
+import com.backend.backend.entity.OrderItem;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.CacheKeyCodec;
+import com.backend.backend.shared.domain.entity.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.metamodel.mapping.SingularAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps the second-level cache consistent with soft deletes and across nodes.
+ * <p>
+ * {@code @SQLRestriction("deleted_at IS NULL")} only filters rows read from the database, so a
+ * soft-deleted entity is evicted from its region (and its order's item list) after commit, or
+ * {@code findById} would keep returning the cached copy.
+ * <p>
+ * Regions are node-local: after commit, writes to cached entities are published on the
+ * {@link CacheInvalidationBus} and the other nodes evict the same entries: the entity
+ * ({@code l2:<entity name>}), the owning order's item list ({@code l2-collection:<role>}) and, only
+ * when a natural id changed, the entity's natural-id region ({@code l2-natural-id:<entity name>}).
+ * The messages of one transaction are deduplicated and published together.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictionListener
+        implements PostUpdateEventListener, PostDeleteEventListener, PostInsertEventListener {
+
+    static final String BUS_PREFIX = "l2:";
+    static final String NATURAL_ID_BUS_PREFIX = "l2-natural-id:";
+    static final String COLLECTION_BUS_PREFIX = "l2-collection:";
+    static final String ORDER_ITEMS_ROLE = Order.class.getName() + ".items";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus bus;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        bus.subscribe(this::onRemote);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        boolean softDeleted = event.getEntity() instanceof BaseEntity entity && entity.isDeleted();
+        Object orderId = softDeleted ? owningOrderId(event.getEntity()) : null;
+        if (softDeleted) {
+            afterCommit(() -> evictSoftDeleted(persister, event.getId(), orderId));
+        }
+        publishEntity(persister, event.getId());
+        if (orderId != null) {
+            publishOrderItems(orderId);
+        }
+        if (naturalIdChanged(event)) {
+            // Hibernate đã cập nhật region natural id ở node này; node khác không biết giá trị cũ
+            publishNaturalIds(persister);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        // Hibernate evicts locally; only the other nodes need telling.
+        EntityPersister persister = event.getPersister();
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        publishEntity(persister, event.getId());
+        Object orderId = owningOrderId(event.getEntity());
+        if (orderId != null) {
+            publishOrderItems(orderId);
+        }
+        if (persister.getNaturalIdMapping() != null) {
+            publishNaturalIds(persister);
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // A new item changes its order's cached item list on the other nodes.
+        Object orderId = owningOrderId(event.getEntity());
+        if (orderId != null) {
+            publishOrderItems(orderId);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * For rows written behind Hibernate's back (archive restores): evicts what the region may hold
+     * for the entity, here and on the other nodes. Call after commit.
+     *
+     * @param orderId owning order of a restored {@link OrderItem}, whose item list is evicted; otherwise ignored
+     */
+    public void evictWrittenOutsideSession(Class<?> entityClass, Object id, Object orderId) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityClass);
+        if (persister == null || !persister.canWriteToCache()) {
+            return;
+        }
+        CacheImplementor cache = sessionFactory.getCache();
+        cache.evictEntityData(persister.getEntityName(), id);
+        publishEntity(persister, id);
+        if (OrderItem.class.equals(entityClass) && orderId != null) {
+            cache.evictCollectionData(ORDER_ITEMS_ROLE, orderId);
+            publishOrderItems(orderId);
+        }
+    }
+
+    private void evictSoftDeleted(EntityPersister persister, Object id, Object orderId) {
+        CacheImplementor cache = sessionFactory.getCache();
+        cache.evictEntityData(persister.getEntityName(), id);
+        if (orderId != null) {
+            cache.evictCollectionData(ORDER_ITEMS_ROLE, orderId);
+        }
+        log.debug("Evicted soft-deleted {}#{} from the second-level cache", persister.getEntityName(), id);
+    }
+
+    private void publishEntity(EntityPersister persister, Object id) {
+        publishAfterCommit(BUS_PREFIX + persister.getEntityName(), CacheKeyCodec.encode(id));
+    }
+
+    private void publishNaturalIds(EntityPersister persister) {
+        publishAfterCommit(NATURAL_ID_BUS_PREFIX + persister.getEntityName(), null);
+    }
+
+    private void publishOrderItems(Object orderId) {
+        publishAfterCommit(COLLECTION_BUS_PREFIX + ORDER_ITEMS_ROLE, CacheKeyCodec.encode(orderId));
+    }
+
+    /**
+     * Queues a message for the other nodes; a transaction publishes each distinct message once,
+     * all in one batch after commit.
+     */
+    private void publishAfterCommit(String cacheName, String key) {
+        CacheInvalidation message = new CacheInvalidation(cacheName, key, bus.nodeId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publishAll(List.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<CacheInvalidation> pending = (Set<CacheInvalidation>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<CacheInvalidation> messages = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, messages);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bus.publishAll(messages);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheEvictionListener.this);
+                }
+            });
+            pending = messages;
+        }
+        pending.add(message);
+    }
+
+    private void onRemote(CacheInvalidation invalidation) {
+        String name = invalidation.cacheName();
+        CacheImplementor cache = sessionFactory.getCache();
+        if (name.startsWith(COLLECTION_BUS_PREFIX)) {
+            String role = name.substring(COLLECTION_BUS_PREFIX.length());
+            if (invalidation.isClear()) {
+                cache.evictCollectionData(role);
+            } else {
+                cache.evictCollectionData(role, CacheKeyCodec.decode(invalidation.key()));
+            }
+            return;
+        }
+        boolean naturalIds = name.startsWith(NATURAL_ID_BUS_PREFIX);
+        if (!naturalIds && !name.startsWith(BUS_PREFIX)) {
+            return;
+        }
+        String entityName = name.substring(naturalIds ? NATURAL_ID_BUS_PREFIX.length() : BUS_PREFIX.length());
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null || !persister.canWriteToCache()) {
+            return;
+        }
+        if (naturalIds) {
+            cache.evictNaturalIdData(entityName);
+        } else if (invalidation.isClear()) {
+            cache.evictEntityData(entityName);
+        } else {
+            cache.evictEntityData(entityName, CacheKeyCodec.decode(invalidation.key()));
+        }
+    }
+
+    /**
+     * Whether an update changed a natural id attribute; assumed when the old state is unknown.
+     */
+    private static boolean naturalIdChanged(PostUpdateEvent event) {
+        NaturalIdMapping naturalId = event.getPersister().getNaturalIdMapping();
+        if (naturalId == null) {
+            return false;
+        }
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return true;
+        }
+        for (SingularAttributeMapping attribute : naturalId.getNaturalIdAttributes()) {
+            int position = attribute.getStateArrayPosition();
+            if (!Objects.equals(oldState[position], event.getState()[position])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object owningOrderId(Object entity) {
+        return entity instanceof OrderItem item && item.getOrder() != null ? item.getOrder().getId() : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
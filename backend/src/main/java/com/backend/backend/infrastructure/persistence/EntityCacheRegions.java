@@ -0,0 +1,31 @@
+package com.backend.backend.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Each region is a bounded Caffeine cache created by
+ * {@code HibernateCacheConfig}; a region missing from {@link #ALL} would be created unbounded.
+ */
+public final class EntityCacheRegions {
+    private EntityCacheRegions() {}
+
+    public static final String PRODUCT    = "entity.product";
+    public static final String CUSTOMER   = "entity.customer";
+    public static final String SUPPLIER   = "entity.supplier";
+    public static final String USER       = "entity.user";
+    public static final String ORDER_ITEM = "entity.order-item";
+
+    // Order.items: ids of the items of each order
+    public static final String ORDER_ITEMS = "collection.order-items";
+
+    // Natural id (slug, username) -> id
+    public static final String PRODUCT_SLUG  = "natural-id.product-slug";
+    public static final String CUSTOMER_SLUG = "natural-id.customer-slug";
+    public static final String USER_USERNAME = "natural-id.user-username";
+
+    public static final List<String> ALL = List.of(
+            PRODUCT, CUSTOMER, SUPPLIER, USER, ORDER_ITEM,
+            ORDER_ITEMS,
+            PRODUCT_SLUG, CUSTOMER_SLUG, USER_USERNAME
+    );
+}
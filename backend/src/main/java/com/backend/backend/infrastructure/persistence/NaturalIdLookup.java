@@ -0,0 +1,37 @@
+package com.backend.backend.infrastructure.persistence;
+
+import com.backend.backend.shared.domain.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Loads entities by their {@code @NaturalId} (slug, username) through the second-level cache:
+ * the natural id resolves to the id from the natural-id region, then the entity comes from its
+ * entity region. A derived query such as {@code findBySlug} always goes to the database.
+ */
+@Component
+public class NaturalIdLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @return the active entity with this natural id; soft-deleted entities are never returned,
+     * even if a cached copy is still around
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> Optional<T> find(Class<T> type, Object naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(type)
+                .loadOptional(naturalId)
+                .filter(BaseEntity::isActive);
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import com.backend.backend.config.ArchivalProps;
+import com.backend.backend.infrastructure.persistence.EntityCacheEvictionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Archival of old soft-deleted rows; the schedule follows {@code app.archival.enabled}, restores
+ * are always available.
+ */
+@Configuration
+@EnableConfigurationProperties(ArchivalProps.class)
+public class ArchivalConfig {
+
+    @Bean
+    public SoftDeleteArchiver softDeleteArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                                 CacheManager cacheManager,
+                                                 EntityCacheEvictionListener entityCacheEvictionListener,
+                                                 MeterRegistry registry) {
+        return new SoftDeleteArchiver(jdbcTemplate, new TransactionTemplate(transactionManager), cacheManager,
+                entityCacheEvictionListener, registry);
+    }
+
+    @Bean
+    public ArchivalJob archivalJob(SoftDeleteArchiver archiver, JdbcTemplate jdbcTemplate, ArchivalProps props,
+                                   MeterRegistry registry) {
+        return new ArchivalJob(archiver, jdbcTemplate, props, registry);
+    }
+}
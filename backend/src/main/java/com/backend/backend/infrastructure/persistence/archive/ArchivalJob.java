@@ -0,0 +1,211 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import com.backend.backend.config.ArchivalProps;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically moves rows soft-deleted longer ago than {@code retention} into the archive tables,
+ * so the hot tables and their indexes stop growing with dead rows.
+ * <p>
+ * Tables are processed children first (see {@link ArchivedTable}) in batches of {@code batch-size},
+ * each its own short transaction, with {@code batch-pause} between them. A MySQL named lock held on
+ * a separate connection for the whole run keeps nodes from archiving concurrently. Scheduled and
+ * manual runs ({@link #trigger()}) share one thread, so they never overlap on a node;
+ * {@code enabled=false} only turns the schedule off, manual runs and restores still work.
+ */
+@Slf4j
+public class ArchivalJob implements SmartLifecycle {
+
+    static final String LOCK_NAME = "soft-delete-archival";
+
+    private final SoftDeleteArchiver archiver;
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchivalProps props;
+    private final Timer runs;
+
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+    private volatile boolean failing;
+    private ScheduledExecutorService scheduler;
+    private boolean scheduled;
+
+    public ArchivalJob(SoftDeleteArchiver archiver, JdbcTemplate jdbcTemplate, ArchivalProps props,
+                       MeterRegistry registry) {
+        this.archiver = archiver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.runs = Timer.builder("db.archival.runs")
+                .description("Duration of archival runs")
+                .register(registry);
+    }
+
+    /**
+     * Archives every table once.
+     *
+     * @return rows archived per table, or empty if another node holds the lock
+     */
+    public Optional<Map<ArchivedTable, Integer>> runOnce() {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<Map<ArchivedTable, Integer>>>) connection -> {
+            if (!lock(connection)) {
+                log.debug("Archival skipped: another node holds lock {}", LOCK_NAME);
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(runs.record(this::archiveAll));
+            } finally {
+                unlock(connection);
+            }
+        });
+    }
+
+    private Map<ArchivedTable, Integer> archiveAll() {
+        Instant cutoff = Instant.now().minus(props.getRetention());
+        Map<ArchivedTable, Integer> moved = new EnumMap<>(ArchivedTable.class);
+        for (ArchivedTable table : ArchivedTable.values()) {
+            int total = 0;
+            for (int batch = 0; batch < props.getMaxBatchesPerRun(); batch++) {
+                int count = archiver.archiveBatch(table, cutoff, props.getBatchSize());
+                total += count;
+                if (count < props.getBatchSize() || !pause()) {
+                    break;
+                }
+            }
+            moved.put(table, total);
+            if (total > 0) {
+                log.info("Archived {} rows of {} deleted before {}", total, table.tableName(), cutoff);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * @return false if interrupted, i.e. the job is stopping
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(props.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean lock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        }
+    }
+
+    /**
+     * Starts a run in the background now.
+     *
+     * @return false if a run is already queued or in progress on this node
+     */
+    public synchronized boolean trigger() {
+        if (!inProgress.compareAndSet(false, true)) {
+            return false;
+        }
+        executor().execute(this::runAndRelease);
+        return true;
+    }
+
+    private void runAndRelease() {
+        try {
+            runSafely();
+        } finally {
+            inProgress.set(false);
+        }
+    }
+
+    private void runSafely() {
+        try {
+            runOnce();
+            if (failing) {
+                failing = false;
+                log.info("Archival recovered");
+            }
+        } catch (RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                log.warn("Archival failed, will retry next run: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return props.isEnabled();
+    }
+
+    private synchronized ScheduledExecutorService executor() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "soft-delete-archival");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return scheduler;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        executor().scheduleWithFixedDelay(() -> {
+                    if (inProgress.compareAndSet(false, true)) {
+                        runAndRelease();
+                    }
+                },
+                props.getInitialDelay().toMillis(), props.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Archival job started: retention={}, interval={}, batch-size={}",
+                props.getRetention(), props.getInterval(), props.getBatchSize());
+    }
+
+    @Override
+    public synchronized void stop() {
+        scheduled = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduled;
+    }
+}
@@ -0,0 +1,95 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.entity.Customer;
+import com.backend.backend.entity.Order;
+import com.backend.backend.entity.OrderItem;
+import com.backend.backend.entity.Product;
+import com.backend.backend.entity.StockEntry;
+import com.backend.backend.entity.Supplier;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tables whose soft-deleted rows are moved to {@code <table>_archive}, declared children first:
+ * archiving runs in declaration order, so a parent only becomes archivable once the rows that
+ * reference it have been moved.
+ */
+public enum ArchivedTable {
+
+    ORDER_ITEMS("order_items", OrderItem.class,
+            List.of(new ForeignKey("order_id", "orders"), new ForeignKey("product_id", "products")),
+            List.of(CacheNames.ORDER_BY_ID, CacheNames.ORDER_LIST, CacheNames.ORDER_BY_CUSTOMER)),
+    STOCK_ENTRIES("stock_entries", StockEntry.class,
+            List.of(new ForeignKey("product_id", "products"), new ForeignKey("supplier_id", "suppliers")),
+            List.of()),
+    ORDERS("orders", Order.class,
+            List.of(new ForeignKey("customer_id", "customers")),
+            List.of(CacheNames.ORDER_NOT_FOUND, CacheNames.ORDER_LIST, CacheNames.ORDER_BY_CUSTOMER)),
+    PRODUCTS("products", Product.class, List.of(),
+            List.of(CacheNames.PRODUCT_NOT_FOUND, CacheNames.PRODUCT_LIST)),
+    CUSTOMERS("customers", Customer.class, List.of(),
+            List.of(CacheNames.CUSTOMER_NOT_FOUND, CacheNames.CUSTOMER_LIST)),
+    SUPPLIERS("suppliers", Supplier.class, List.of(),
+            List.of(CacheNames.SUPPLIER_NOT_FOUND, CacheNames.SUPPLIER_LIST));
+
+    private final String tableName;
+    private final Class<?> entityClass;
+    private final List<ForeignKey> parents;
+    /** Spring caches cleared after a restore: negative lookups and lists that lack the row. */
+    private final List<String> caches;
+
+    ArchivedTable(String tableName, Class<?> entityClass, List<ForeignKey> parents, List<String> caches) {
+        this.tableName = tableName;
+        this.entityClass = entityClass;
+        this.parents = parents;
+        this.caches = caches;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String archiveTableName() {
+        return tableName + "_archive";
+    }
+
+    public Class<?> entityClass() {
+        return entityClass;
+    }
+
+    public List<ForeignKey> parents() {
+        return parents;
+    }
+
+    public List<String> caches() {
+        return caches;
+    }
+
+    /**
+     * Foreign keys of other tables that point at this one; a row they reference cannot be archived.
+     */
+    public List<ChildReference> children() {
+        return Arrays.stream(values())
+                .flatMap(child -> child.parents.stream()
+                        .filter(fk -> fk.table().equals(tableName))
+                        .map(fk -> new ChildReference(child.tableName, fk.column())))
+                .toList();
+    }
+
+    public static ArchivedTable fromTableName(String tableName) {
+        return Arrays.stream(values())
+                .filter(table -> table.tableName.equals(tableName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Table '" + tableName + "' is not archived"));
+    }
+
+    /** {@code column} of this table references {@code table(id)}. */
+    public record ForeignKey(String column, String table) {
+    }
+
+    /** {@code table.column} references this table's id. */
+    public record ChildReference(String table, String column) {
+    }
+}
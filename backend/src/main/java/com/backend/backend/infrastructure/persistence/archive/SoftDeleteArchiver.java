@@ -0,0 +1,197 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import com.backend.backend.infrastructure.persistence.EntityCacheEvictionListener;
+import com.backend.backend.shared.domain.exception.BusinessRuleViolationException;
+import com.backend.backend.shared.domain.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Moves soft-deleted rows between a table and its {@code _archive} copy with plain JDBC.
+ * <p>
+ * A batch picks candidate ids without locking (oldest deletions first, through an index on
+ * {@code deleted_at}), then locks just those rows by primary key in a short transaction that
+ * copies and deletes them. Rows still referenced by another table are skipped; the foreign keys
+ * remain the final guard.
+ * <p>
+ * Column lists are read from {@code information_schema} once per table, so a column added to a
+ * live table but not to its archive fails the batch instead of being dropped silently.
+ */
+@Slf4j
+public class SoftDeleteArchiver {
+
+    static final String RESTORE_RULE = "archive-restore";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transaction;
+    private final CacheManager cacheManager;
+    private final EntityCacheEvictionListener entityCacheEviction;
+    private final Map<ArchivedTable, Counter> archived = new EnumMap<>(ArchivedTable.class);
+    private final Map<ArchivedTable, Counter> restored = new EnumMap<>(ArchivedTable.class);
+    private final Map<ArchivedTable, List<String>> columns = new ConcurrentHashMap<>();
+
+    public SoftDeleteArchiver(JdbcTemplate jdbcTemplate, TransactionOperations transaction, CacheManager cacheManager,
+                              EntityCacheEvictionListener entityCacheEviction, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = transaction;
+        this.cacheManager = cacheManager;
+        this.entityCacheEviction = entityCacheEviction;
+        for (ArchivedTable table : ArchivedTable.values()) {
+            archived.put(table, rowCounter(registry, table, "archived"));
+            restored.put(table, rowCounter(registry, table, "restored"));
+        }
+    }
+
+    /**
+     * Archives up to {@code limit} rows of {@code table} deleted before {@code cutoff}.
+     *
+     * @return rows moved; fewer than {@code limit} means the table is done for now
+     */
+    public int archiveBatch(ArchivedTable table, Instant cutoff, int limit) {
+        Timestamp before = Timestamp.from(cutoff);
+        List<Long> candidates = jdbcTemplate.queryForList(
+                "SELECT t.id FROM " + table.tableName() + " t WHERE t.deleted_at < ?" + notReferenced(table)
+                        + " ORDER BY t.deleted_at LIMIT " + limit,
+                Long.class, before);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Integer moved = transaction.execute(status -> {
+            // Chỉ khóa các dòng theo khóa chính; dòng vừa được khôi phục hoặc vừa có con sẽ bị loại
+            List<Long> locked = jdbcTemplate.queryForList(
+                    "SELECT t.id FROM " + table.tableName() + " t WHERE t.id IN (" + idList(candidates) + ")"
+                            + " AND t.deleted_at < ?" + notReferenced(table) + " FOR UPDATE OF t",
+                    Long.class, before);
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            String ids = idList(locked);
+            String cols = columnList(table);
+            jdbcTemplate.update("INSERT INTO " + table.archiveTableName() + " (" + cols + ", archived_at)"
+                    + " SELECT " + cols + ", ? FROM " + table.tableName() + " WHERE id IN (" + ids + ")",
+                    Timestamp.from(Instant.now()));
+            jdbcTemplate.update("DELETE FROM " + table.tableName() + " WHERE id IN (" + ids + ")");
+            return locked.size();
+        });
+        int count = moved != null ? moved : 0;
+        archived.get(table).increment(count);
+        // Không cần xóa cache: dòng đã soft delete nên không còn trong cache nào
+        return count;
+    }
+
+    /**
+     * Moves an archived row back into its table as a live row ({@code deleted_at} cleared).
+     *
+     * @throws EntityNotFoundException        if the row is not in the archive
+     * @throws BusinessRuleViolationException if a parent row is archived or gone, or a unique key is taken
+     */
+    public void restore(ArchivedTable table, long id) {
+        Map<String, Object> row = transaction.execute(status -> {
+            String parentColumns = Stream.concat(Stream.of("id"),
+                            table.parents().stream().map(ArchivedTable.ForeignKey::column))
+                    .collect(Collectors.joining(", "));
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT " + parentColumns + " FROM "
+                    + table.archiveTableName() + " WHERE id = ? FOR UPDATE", id);
+            if (rows.isEmpty()) {
+                throw new EntityNotFoundException(table.archiveTableName(), id);
+            }
+            for (ArchivedTable.ForeignKey fk : table.parents()) {
+                Object parentId = rows.get(0).get(fk.column());
+                if (parentId != null && !exists(fk.table(), parentId)) {
+                    throw new BusinessRuleViolationException(RESTORE_RULE, String.format(
+                            "%s#%d references %s#%s, which %s", table.tableName(), id, fk.table(), parentId,
+                            exists(fk.table() + "_archive", parentId) ? "is archived: restore it first" : "no longer exists"));
+                }
+            }
+            String cols = columnList(table);
+            String values = columns(table).stream()
+                    .map(column -> column.equals("deleted_at") ? "NULL" : quote(column))
+                    .collect(Collectors.joining(", "));
+            try {
+                jdbcTemplate.update("INSERT INTO " + table.tableName() + " (" + cols + ") SELECT " + values
+                        + " FROM " + table.archiveTableName() + " WHERE id = ?", id);
+            } catch (DuplicateKeyException e) {
+                throw new BusinessRuleViolationException(RESTORE_RULE, String.format(
+                        "%s#%d conflicts with a live row on a unique key (e.g. slug)", table.tableName(), id), e);
+            }
+            jdbcTemplate.update("DELETE FROM " + table.archiveTableName() + " WHERE id = ?", id);
+            return rows.get(0);
+        });
+        restored.get(table).increment();
+        evictCaches(table, id, row);
+        log.info("Restored {}#{} from {}", table.tableName(), id, table.archiveTableName());
+    }
+
+    /**
+     * Caches may remember the row as missing, or hold lists and item sets built without it.
+     *
+     * @param row id and parent columns of the restored row
+     */
+    private void evictCaches(ArchivedTable table, long id, Map<String, Object> row) {
+        for (String name : table.caches()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        Object orderId = table.parents().stream()
+                .filter(fk -> fk.table().equals(ArchivedTable.ORDERS.tableName()) && row != null)
+                .findFirst()
+                .map(fk -> row.get(fk.column()))
+                .orElse(null);
+        entityCacheEviction.evictWrittenOutsideSession(table.entityClass(), id, orderId);
+    }
+
+    private boolean exists(String tableName, Object id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + tableName + " WHERE id = ?", Integer.class, id).isEmpty();
+    }
+
+    private static String notReferenced(ArchivedTable table) {
+        return table.children().stream()
+                .map(child -> " AND NOT EXISTS (SELECT 1 FROM " + child.table() + " c WHERE c."
+                        + child.column() + " = t.id)")
+                .collect(Collectors.joining());
+    }
+
+    private String columnList(ArchivedTable table) {
+        return columns(table).stream().map(SoftDeleteArchiver::quote).collect(Collectors.joining(", "));
+    }
+
+    private List<String> columns(ArchivedTable table) {
+        return columns.computeIfAbsent(table, t -> jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns"
+                        + " WHERE table_schema = DATABASE() AND table_name = ? ORDER BY ordinal_position",
+                String.class, t.tableName()));
+    }
+
+    private static String quote(String column) {
+        return "`" + column + "`";
+    }
+
+    private static String idList(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Counter rowCounter(MeterRegistry registry, ArchivedTable table, String operation) {
+        return Counter.builder("db.archival.rows")
+                .description("Soft-deleted rows moved to or from the archive tables")
+                .tag("table", table.tableName())
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
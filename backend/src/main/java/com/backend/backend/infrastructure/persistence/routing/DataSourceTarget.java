@@ -0,0 +1,10 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+/**
+ * Lookup key of {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceTarget {
+
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,74 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+import com.backend.backend.config.CacheProps;
+import com.backend.backend.config.ReadReplicaProps;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * With {@code DB_REPLICA_ENABLED=true} the application data source becomes a read/write router over
+ * two Hikari pools, {@code primary} ({@code spring.datasource.*}) and {@code replica}
+ * ({@code app.datasource.replica.hikari.*}). Both pools are beans, so each gets its own
+ * {@code hikaricp.connections.*} metrics and health check.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProps.class)
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        // MySQL từ chối mọi lệnh ghi lọt sang replica
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               ReadReplicaProps props, MeterRegistry registry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replica), props.getLagCheckInterval(),
+                props.isTreatNonReplicaAsInSync(), registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadReplicaProps props, ReplicaLagMonitor lagMonitor, CacheProps cacheProps,
+                                 MeterRegistry registry) {
+        if (props.getMaxLag().compareTo(cacheProps.getStaleWriteWindow()) >= 0) {
+            // Sau khi evict, cache chỉ chặn put trong stale-write-window; đọc replica trễ hơn thế có thể đưa dữ liệu cũ vào cache
+            log.warn("app.datasource.replica.max-lag ({}) should be below app.cache.stale-write-window ({})",
+                    props.getMaxLag(), cacheProps.getStaleWriteWindow());
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, props, lagMonitor,
+                new ReadYourWrites(props.getReadYourWritesWindow()), registry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
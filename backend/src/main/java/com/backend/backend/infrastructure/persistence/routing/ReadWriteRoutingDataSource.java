@@ -0,0 +1,137 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+import com.backend.backend.config.ReadReplicaProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions of the {@code routed-classes} to the replica, unless it lags more
+ * than {@code max-lag} or the caller wrote within {@code read-your-writes-window}. Everything else
+ * uses the primary, and every read-write transaction counts as a write for read-your-writes.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager asks for the
+ * connection before the transaction is marked read-only, the proxy defers that to the first statement.
+ * Connections are counted in {@code db.routing.connections} by {@code target} and {@code reason}.
+ * <p>
+ * A transaction sent to the replica reads the second-level cache but does not put into it
+ * ({@link CacheMode#GET}): a row read from a lagging replica after another node's eviction would
+ * otherwise go back into the cache as if it were current.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        NON_TRANSACTIONAL(DataSourceTarget.PRIMARY),
+        READ_WRITE(DataSourceTarget.PRIMARY),
+        NOT_ROUTED(DataSourceTarget.PRIMARY),
+        REPLICA_LAGGING(DataSourceTarget.PRIMARY),
+        READ_YOUR_WRITES(DataSourceTarget.PRIMARY),
+        REPLICA(DataSourceTarget.REPLICA);
+
+        private final DataSourceTarget target;
+
+        Route(DataSourceTarget target) {
+            this.target = target;
+        }
+    }
+
+    private final ReadReplicaProps props;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Map<Route, Counter> connections = new EnumMap<>(Route.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadReplicaProps props,
+                                      ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites,
+                                      MeterRegistry registry) {
+        this.props = props;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(DataSourceTarget.PRIMARY, primary, DataSourceTarget.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (Route route : Route.values()) {
+            connections.put(route, Counter.builder("db.routing.connections")
+                    .description("Connections handed out by the read/write routing data source")
+                    .tags("target", route.target.name().toLowerCase(), "reason", route.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        connections.get(route).increment();
+        if (route.target == DataSourceTarget.REPLICA) {
+            disableSecondLevelCachePuts();
+        }
+        return route.target;
+    }
+
+    /**
+     * Switches the transaction's Hibernate session to {@link CacheMode#GET} until the transaction
+     * completes. The connection is only requested on the first statement, before its rows are loaded.
+     */
+    private static void disableSecondLevelCachePuts() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder holder)) {
+                continue;
+            }
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+                continue;
+            }
+            session.setCacheMode(CacheMode.GET);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Session gắn sẵn ngoài transaction (vd. test @Transactional) dùng lại mode cũ
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (session.isOpen()) {
+                            session.setCacheMode(previous);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    Route route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.NON_TRANSACTIONAL;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWrite();
+            return Route.READ_WRITE;
+        }
+        if (!isRouted(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return Route.NOT_ROUTED;
+        }
+        if (readYourWrites.wroteRecently()) {
+            return Route.READ_YOUR_WRITES;
+        }
+        if (!lagMonitor.isWithin(props.getMaxLag())) {
+            return Route.REPLICA_LAGGING;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Transaction names of {@code @Transactional} methods are {@code <class>.<method>}.
+     */
+    private boolean isRouted(String transactionName) {
+        if (transactionName == null) {
+            return false;
+        }
+        int lastDot = transactionName.lastIndexOf('.');
+        return lastDot > 0 && props.getRoutedClasses().contains(transactionName.substring(0, lastDot));
+    }
+}
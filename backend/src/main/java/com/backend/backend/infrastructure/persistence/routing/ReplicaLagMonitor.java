@@ -0,0 +1,122 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls {@code SHOW REPLICA STATUS} on the replica (needs the {@code REPLICATION CLIENT} privilege)
+ * and publishes {@code Seconds_Behind_Source} as {@code db.replica.lag}.
+ * <p>
+ * The lag is unknown, and the replica not used, until the first poll, while the replica cannot be
+ * queried and while replication is stopped. A server that is not a replica at all reports no status
+ * row; its lag is unknown too, unless {@code treatNonReplicaAsInSync} is set (tests that use the
+ * primary as a stand-in replica).
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private final JdbcTemplate replica;
+    private final Duration interval;
+    private final boolean treatNonReplicaAsInSync;
+    /** Seconds behind the primary; NaN while unknown. */
+    private volatile double lagSeconds = Double.NaN;
+    private boolean failing;
+    private boolean warnedNotReplica;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(JdbcTemplate replica, Duration interval, boolean treatNonReplicaAsInSync,
+                             MeterRegistry registry) {
+        this.replica = replica;
+        this.interval = interval;
+        this.treatNonReplicaAsInSync = treatNonReplicaAsInSync;
+        Gauge.builder("db.replica.lag", this, ReplicaLagMonitor::lagSeconds)
+                .description("Seconds the read replica is behind the primary (NaN while unknown)")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Whether the replica is known to be at most {@code maxLag} behind.
+     */
+    public boolean isWithin(Duration maxLag) {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag <= maxLag.toMillis() / 1000.0;
+    }
+
+    void check() {
+        try {
+            List<Long> lags = replica.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            });
+            if (lags.isEmpty()) {
+                if (!warnedNotReplica) {
+                    log.warn(treatNonReplicaAsInSync
+                            ? "Read replica reports no replication status; treating it as in sync"
+                            : "Read replica reports no replication status; reads stay on the primary");
+                    warnedNotReplica = true;
+                }
+                update(treatNonReplicaAsInSync ? 0.0 : Double.NaN);
+            } else {
+                // NULL: luồng replication đã dừng
+                update(lags.get(0) != null ? lags.get(0).doubleValue() : Double.NaN);
+            }
+            if (failing) {
+                log.info("Read replica lag check recovered");
+                failing = false;
+            }
+        } catch (DataAccessException e) {
+            update(Double.NaN);
+            if (!failing) {
+                log.warn("Read replica lag check failed, reads stay on the primary: {}", e.getMessage());
+                failing = true;
+            }
+        }
+    }
+
+    void update(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Read replica lag monitor started: interval={}", interval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts loaded entities, from result rows or the second-level cache, into the current
+ * {@link StatementRecorder} scope.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLoadCounter implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        StatementStats stats = StatementRecorder.current();
+        if (stats != null) {
+            stats.onEntityLoaded();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing statements and batches to the current {@link StatementRecorder} scope.
+ * Hibernate creates one per session ({@code hibernate.session.events.auto}).
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        StatementStats stats = StatementRecorder.current();
+        if (stats != null && startedAt != 0) {
+            stats.onJdbcExecution(System.nanoTime() - startedAt);
+        }
+        startedAt = 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import com.backend.backend.config.SqlStatsProps;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request statement accounting: Hibernate reports statements and JDBC time into the
+ * {@link StatementRecorder} scope that {@link SqlStatementFilter} opens for every API request.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatsProps.class)
+public class SqlStatementConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementRecorderCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlStatsProps props, MeterRegistry registry) {
+        FilterRegistrationBean<SqlStatementFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementFilter(props, registry));
+        registrationBean.addUrlPatterns("/api/*", "/auth/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registrationBean;
+    }
+}
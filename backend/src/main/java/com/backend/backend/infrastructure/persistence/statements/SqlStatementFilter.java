@@ -0,0 +1,104 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import com.backend.backend.config.SqlStatsProps;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the Hibernate statements, JDBC time and loaded entities of every API request.
+ * <p>
+ * Per route (method + URI template) they go to {@code sql.statements.per.request},
+ * {@code sql.time.per.request} and {@code sql.entities.per.request}. A statement shape
+ * repeated {@code repeated-statement-threshold} times is logged as a likely N+1 and counted in
+ * {@code sql.n_plus_one.suspected}. With {@code response-header} the same numbers are returned in
+ * {@code X-Sql-Statements}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Sql-Statements";
+
+    private final SqlStatsProps props;
+    private final MeterRegistry registry;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !props.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        // The header has to be set before the body is committed, so the body is buffered
+        ContentCachingResponseWrapper buffered = props.isResponseHeader()
+                ? new ContentCachingResponseWrapper(response) : null;
+        StatementStats stats = StatementRecorder.begin();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            StatementRecorder.end(stats);
+            List<StatementStats.RepeatedStatement> repeated = stats.repeated(props.getRepeatedStatementThreshold());
+            record(request, stats, repeated);
+            if (buffered != null) {
+                buffered.setHeader(HEADER, header(stats, repeated));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementStats stats,
+                        List<StatementStats.RepeatedStatement> repeated) {
+        String method = request.getMethod();
+        String route = route(request);
+        DistributionSummary.builder("sql.statements.per.request")
+                .description("Hibernate statements per request")
+                .tags("method", method, "uri", route)
+                .register(registry)
+                .record(stats.statements());
+        DistributionSummary.builder("sql.entities.per.request")
+                .description("Entities loaded from result rows per request")
+                .tags("method", method, "uri", route)
+                .register(registry)
+                .record(stats.entitiesLoaded());
+        Timer.builder("sql.time.per.request")
+                .description("JDBC execution time per request")
+                .tags("method", method, "uri", route)
+                .register(registry)
+                .record(stats.jdbcTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        if (!repeated.isEmpty()) {
+            registry.counter("sql.n_plus_one.suspected", "method", method, "uri", route).increment();
+            StatementStats.RepeatedStatement worst = repeated.get(0);
+            log.warn("Likely N+1 in {} {}: {} statements, {} repeated shape(s), worst {}x: {}", method, route,
+                    stats.statements(), repeated.size(), worst.count(), worst.shape());
+        }
+    }
+
+    /**
+     * The matched URI template; unmatched requests share one tag so they cannot blow up cardinality.
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    static String header(StatementStats stats, List<StatementStats.RepeatedStatement> repeated) {
+        return stats.statements() + "; time=" + stats.jdbcTime(TimeUnit.MILLISECONDS) + "ms; entities="
+                + stats.entitiesLoaded() + "; repeated=" + repeated.size();
+    }
+}
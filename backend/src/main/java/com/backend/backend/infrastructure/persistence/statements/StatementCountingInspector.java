@@ -0,0 +1,19 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the current {@link StatementRecorder} scope; the SQL
+ * itself is passed through unchanged.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementStats stats = StatementRecorder.current();
+        if (stats != null) {
+            stats.onStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+/**
+ * Thread-bound {@link StatementStats} scopes. Hibernate instantiates the inspector and session
+ * listener itself, so they reach the current scope through here rather than through Spring.
+ */
+public final class StatementRecorder {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private StatementRecorder() {
+    }
+
+    /**
+     * Opens a scope on this thread; an already open scope becomes its parent. Close it with {@link #end}.
+     */
+    public static StatementStats begin() {
+        StatementStats stats = new StatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end(StatementStats stats) {
+        if (stats.parent() != null) {
+            CURRENT.set(stats.parent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    static StatementStats current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate statements, JDBC time and loaded entities of one unit of work (an HTTP request or a test).
+ * <p>
+ * Counted on the thread that runs the unit of work, so not thread-safe. A scope opened inside another
+ * one (a test around a MockMvc request) also counts into its parent.
+ */
+public final class StatementStats {
+
+    /** Distinct shapes kept per scope; further shapes are still counted in {@link #statements()}. */
+    static final int MAX_SHAPES = 200;
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final StatementStats parent;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+
+    StatementStats(StatementStats parent) {
+        this.parent = parent;
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        String shape = shape(sql);
+        if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+            shapes.merge(shape, 1, Integer::sum);
+        }
+        if (parent != null) {
+            parent.onStatement(sql);
+        }
+    }
+
+    void onJdbcExecution(long nanos) {
+        jdbcNanos += nanos;
+        if (parent != null) {
+            parent.onJdbcExecution(nanos);
+        }
+    }
+
+    void onEntityLoaded() {
+        entitiesLoaded++;
+        if (parent != null) {
+            parent.onEntityLoaded();
+        }
+    }
+
+    StatementStats parent() {
+        return parent;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long jdbcTime(TimeUnit unit) {
+        return unit.convert(jdbcNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public int entitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * Shapes executed at least {@code threshold} times, most repeated first: the usual signature of
+     * lazy loading in a loop.
+     */
+    public List<RepeatedStatement> repeated(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(e -> e.getValue() >= threshold)
+                .map(e -> new RepeatedStatement(e.getKey(), e.getValue()))
+                .sorted((a, b) -> Integer.compare(b.count(), a.count()))
+                .toList();
+    }
+
+    /**
+     * The statement with literals and bind-parameter lists collapsed, so lookups that differ only in
+     * their values share a shape.
+     */
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+
+    public record RepeatedStatement(String shape, int count) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.backend.infrastructure.threads;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/pinning}: code locations where virtual threads were pinned to their carrier.
+ */
+@Endpoint(id = "pinning")
+@RequiredArgsConstructor
+public class PinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMillis", monitor.threshold().toMillis());
+        body.put("locations", monitor.snapshot());
+        return body;
+    }
+}
@@ -0,0 +1,161 @@
+package com.backend.backend.infrastructure.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, typically because they block
+ * inside a {@code synchronized} block or under a native frame, from the JFR event
+ * {@code jdk.VirtualThreadPinned}.
+ * <p>
+ * Pinnings of at least {@code threshold} are timed in {@code jvm.threads.virtual.pinned}. The first
+ * one of every code location is logged with its stack, and counts per location are served by the
+ * {@code pinning} actuator endpoint.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    /** Upper bound of tracked locations; later ones are still timed, just not listed. */
+    static final int MAX_LOCATIONS = 200;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Map<String, PinnedLocation> locations = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry registry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads blocked while pinned to their carrier thread")
+                .register(registry);
+    }
+
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.record(duration);
+        String location = location(event.getStackTrace());
+        PinnedLocation stats = locations.get(location);
+        if (stats == null && locations.size() < MAX_LOCATIONS) {
+            PinnedLocation created = new PinnedLocation();
+            stats = locations.putIfAbsent(location, created);
+            if (stats == null) {
+                stats = created;
+                log.warn("Virtual thread pinned for {} ms at {}:\n{}", duration.toMillis(), location,
+                        stack(event.getStackTrace()));
+            }
+        }
+        if (stats != null) {
+            stats.record(duration);
+        }
+    }
+
+    /**
+     * Locations seen so far, most frequent first.
+     */
+    public List<Map<String, Object>> snapshot() {
+        return locations.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, PinnedLocation> e) -> e.getValue().count.sum()).reversed())
+                .map(e -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("location", e.getKey());
+                    row.put("count", e.getValue().count.sum());
+                    row.put("maxMillis", Duration.ofNanos(e.getValue().maxNanos.get()).toMillis());
+                    return row;
+                })
+                .toList();
+    }
+
+    public Duration threshold() {
+        return threshold;
+    }
+
+    /**
+     * The first application frame, where a monitor can usually be replaced by a lock; the top
+     * frame if the whole stack is JDK code.
+     */
+    static String location(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame chosen = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && !isJdk(frame.getMethod().getType().getName()))
+                .findFirst()
+                .orElse(frames.get(0));
+        return format(chosen);
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+    private static String stack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + format(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private static final class PinnedLocation {
+
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(Duration duration) {
+            count.increment();
+            maxNanos.accumulateAndGet(duration.toNanos(), Math::max);
+        }
+    }
+}
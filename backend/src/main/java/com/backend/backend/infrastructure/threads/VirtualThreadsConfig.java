@@ -0,0 +1,30 @@
+package com.backend.backend.infrastructure.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * With {@code APP_VIRTUAL_THREADS=true} Spring Boot runs Tomcat requests, {@code @Async} and
+ * {@code @Scheduled} work on virtual threads; this adds pinning detection on top.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold, MeterRegistry registry) {
+        return new VirtualThreadPinningMonitor(threshold, registry);
+    }
+
+    @Bean
+    public PinningEndpoint pinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new PinningEndpoint(monitor);
+    }
+}
@@ -0,0 +1,148 @@
+package com.backend.backend.infrastructure.web.cache;
+
+import com.backend.backend.config.CacheProps;
+import com.backend.backend.infrastructure.web.format.ResponseFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized bodies of response DTOs served from the service caches, so a cache hit is answered
+ * with stored bytes instead of running Jackson again.
+ * <p>
+ * Entries are keyed by the identity of the DTO instance (weak keys). A service cache returns the
+ * same instance until the entry is evicted, refreshed or expires, at which point a new instance
+ * replaces it and the old bytes become unreachable: every eviction of the service caches,
+ * local or broadcast, applies here without extra wiring. Cached DTOs must therefore never be mutated.
+ * <p>
+ * The body is stored in the format negotiated from {@code Accept} (JSON, CBOR or Smile, each
+ * serialized on first use). Large bodies are also kept gzip-compressed (computed on first use) for
+ * clients that accept it.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+    private final int gzipMinBytes;
+    private final Cache<Object, SerializedBody> bodies;
+
+    public ResponseBodyCache(ObjectMapper objectMapper, CacheProps props, MeterRegistry meterRegistry) {
+        CacheProps.ResponseBody cfg = props.getResponseBody();
+        for (ResponseFormat format : ResponseFormat.values()) {
+            mappers.put(format, format.mapper(objectMapper));
+        }
+        this.gzipMinBytes = (int) cfg.getGzipMinSize().toBytes();
+        this.bodies = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(cfg.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, "response-body");
+    }
+
+    /**
+     * A 200 response carrying the stored bytes of {@code body} in the negotiated format, gzip-encoded if
+     * the client accepts it.
+     */
+    public ResponseEntity<byte[]> ok(Object body, HttpServletRequest request) {
+        ResponseFormat format = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        Encoded encoded = bodies.get(body, dto -> new SerializedBody(serialize(dto, ResponseFormat.JSON)))
+                .in(format, () -> serialize(body, format));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.bytes().length >= gzipMinBytes && acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.bytes());
+    }
+
+    long size() {
+        bodies.cleanUp();
+        return bodies.estimatedSize();
+    }
+
+    private byte[] serialize(Object body, ResponseFormat format) {
+        try {
+            return mappers.get(format).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * The encodings of one DTO. Must not reference the DTO itself, or the weak key would never be collected.
+     */
+    static final class SerializedBody {
+        private final AtomicReferenceArray<Encoded> formats = new AtomicReferenceArray<>(ResponseFormat.values().length);
+
+        SerializedBody(byte[] json) {
+            formats.set(ResponseFormat.JSON.ordinal(), new Encoded(json));
+        }
+
+        Encoded in(ResponseFormat format, Supplier<byte[]> serializer) {
+            Encoded encoded = formats.get(format.ordinal());
+            if (encoded == null) {
+                // Racing threads may both serialize; the results are identical.
+                encoded = new Encoded(serializer.get());
+                formats.set(format.ordinal(), encoded);
+            }
+            return encoded;
+        }
+    }
+
+    static final class Encoded {
+        private final byte[] bytes;
+        private volatile byte[] gzip;
+
+        Encoded(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        byte[] gzip() {
+            byte[] compressed = gzip;
+            if (compressed == null) {
+                // Racing threads may both compress; the results are identical.
+                compressed = compress(bytes);
+                gzip = compressed;
+            }
+            return compressed;
+        }
+
+        private static byte[] compress(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                gzipOut.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
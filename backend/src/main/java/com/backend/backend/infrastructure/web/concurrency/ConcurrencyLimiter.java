@@ -0,0 +1,157 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+import com.backend.backend.config.ConcurrencyLimitProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits requests while the in-flight count is below a limit learned by {@link GradientLimit}.
+ * <p>
+ * Critical requests are always admitted, normal ones up to the limit and bulk ones up to
+ * {@code bulk-share} of it. Latency of admitted non-critical requests feeds the limit once per
+ * sample window. Exported as {@code http.server.concurrency.limit}, {@code .inflight} and
+ * {@code .rejected} (by priority).
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+
+    private final ConcurrencyLimitProps props;
+    private final LongSupplier nanoClock;
+    private final GradientLimit gradient;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    private final ReentrantLock windowLock = new ReentrantLock();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private volatile long windowStart;
+
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimiter(ConcurrencyLimitProps props, MeterRegistry registry) {
+        this(props, registry, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(ConcurrencyLimitProps props, MeterRegistry registry, LongSupplier nanoClock) {
+        this.props = props;
+        this.nanoClock = nanoClock;
+        this.gradient = new GradientLimit(props.getInitialLimit(), props.getMinLimit(), props.getMaxLimit(),
+                props.getRttTolerance(), props.getSmoothing());
+        this.limit = gradient.limit();
+        this.windowStart = nanoClock.getAsLong();
+        Gauge.builder("http.server.concurrency.limit", this, ConcurrencyLimiter::limit)
+                .description("Learned limit of concurrent requests")
+                .register(registry);
+        Gauge.builder("http.server.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently being processed")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, Counter.builder("http.server.concurrency.rejected")
+                    .description("Requests shed with 503 because the concurrency limit was reached")
+                    .tag("priority", priority.tag())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * A permit to release when the request completes, or empty if the request should be shed.
+     */
+    public Optional<Permit> tryAcquire(Priority priority) {
+        int capacity = capacity(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= capacity) {
+                rejected.get(priority).increment();
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(priority, current + 1, nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private int capacity(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> Integer.MAX_VALUE;
+            case NORMAL -> limit;
+            case BULK -> Math.max(1, (int) (limit * props.getBulkShare()));
+        };
+    }
+
+    private void release(Permit permit) {
+        inflight.decrementAndGet();
+        if (permit.priority == Priority.CRITICAL) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        windowRttNanos.add(now - permit.startNanos);
+        windowSamples.increment();
+        windowMaxInflight.accumulateAndGet(permit.inflight, Math::max);
+        if (now - windowStart >= props.getSampleWindow().toNanos()
+                && windowSamples.sum() >= props.getMinWindowSamples()
+                && windowLock.tryLock()) {
+            try {
+                closeWindow(now);
+            } finally {
+                windowLock.unlock();
+            }
+        }
+    }
+
+    private void closeWindow(long now) {
+        long samples = windowSamples.sumThenReset();
+        if (samples == 0) {
+            // Thread khác vừa đóng cửa sổ này
+            return;
+        }
+        double rtt = (double) windowRttNanos.sumThenReset() / samples;
+        int maxInflight = windowMaxInflight.getAndSet(0);
+        windowStart = now;
+        int previous = limit;
+        limit = gradient.update(rtt, maxInflight);
+        if (limit != previous) {
+            log.debug("Concurrency limit {} -> {} (rtt={}ms, baseline={}ms, maxInflight={})", previous, limit,
+                    String.format("%.1f", rtt / 1e6), String.format("%.1f", gradient.baselineRttNanos() / 1e6),
+                    maxInflight);
+        }
+    }
+
+    /**
+     * One admitted request; {@link #release()} exactly once, when it completes.
+     */
+    public final class Permit {
+
+        private final Priority priority;
+        private final int inflight;
+        private final long startNanos;
+
+        private Permit(Priority priority, int inflight, long startNanos) {
+            this.priority = priority;
+            this.inflight = inflight;
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            ConcurrencyLimiter.this.release(this);
+        }
+    }
+}
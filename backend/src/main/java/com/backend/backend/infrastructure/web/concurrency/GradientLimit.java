@@ -0,0 +1,67 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+/**
+ * Estimates the sustainable number of in-flight requests from latency alone.
+ * <p>
+ * Each update compares the average latency of the last window with a slow-moving baseline. While
+ * they stay within {@code tolerance}, the limit grows by about {@code sqrt(limit)}; when latency
+ * rises above it (requests queueing on the database pool, say), the limit shrinks in proportion,
+ * by at most half per update. Not thread-safe: {@link ConcurrencyLimiter} updates it under a lock.
+ */
+final class GradientLimit {
+
+    /** The baseline follows roughly the last 60 windows. */
+    private static final int BASELINE_WINDOWS = 60;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private double estimatedLimit;
+    private double baselineRttNanos;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = clamp(initialLimit);
+    }
+
+    /**
+     * @param rttNanos    average latency of the window
+     * @param maxInflight highest in-flight count seen in the window
+     * @return the new limit
+     */
+    int update(double rttNanos, int maxInflight) {
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = rttNanos;
+        } else {
+            baselineRttNanos += (rttNanos - baselineRttNanos) / BASELINE_WINDOWS;
+        }
+        // Sau sự cố, baseline còn cao khiến limit tăng quá nhanh: kéo baseline xuống dần
+        if (baselineRttNanos / rttNanos > 2) {
+            baselineRttNanos *= 0.95;
+        }
+        // Tải thấp hơn nhiều so với limit thì latency không nói gì về limit: giữ nguyên
+        if (maxInflight < estimatedLimit / 2) {
+            return limit();
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineRttNanos / rttNanos));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + target * smoothing);
+        return limit();
+    }
+
+    int limit() {
+        return (int) estimatedLimit;
+    }
+
+    double baselineRttNanos() {
+        return baselineRttNanos;
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,32 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+import com.backend.backend.config.ConcurrencyLimitProps;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProps.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitProps props, MeterRegistry registry) {
+        return new ConcurrencyLimiter(props, registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(ConcurrencyLimitProps props,
+                                                                         ConcurrencyLimiter limiter,
+                                                                         ObjectMapper objectMapper) {
+        FilterRegistrationBean<LoadSheddingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new LoadSheddingFilter(props, limiter, objectMapper));
+        registrationBean.addUrlPatterns("/*");
+        // Ngay sau access log (request bị từ chối vẫn được ghi log), trước redirect phiên bản API và mọi xử lý khác
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registrationBean;
+    }
+}
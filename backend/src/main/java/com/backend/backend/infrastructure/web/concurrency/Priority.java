@@ -0,0 +1,20 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+/**
+ * Load-shedding class of a request, from its path (see {@code app.concurrency-limit}).
+ */
+public enum Priority {
+
+    /** Authentication and actuator: admitted even above the limit. */
+    CRITICAL,
+
+    /** Regular API traffic: admitted up to the limit. */
+    NORMAL,
+
+    /** Exports, imports and statistics: admitted up to {@code bulk-share} of the limit, so shed first. */
+    BULK;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
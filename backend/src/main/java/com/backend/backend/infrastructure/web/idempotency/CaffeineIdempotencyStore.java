@@ -0,0 +1,50 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Node-local store: keys expire {@code ttl} after their last write and are capped at {@code maximumSize}.
+ */
+public class CaffeineIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> records;
+    private final Duration lockTimeout;
+    private final Clock clock;
+
+    public CaffeineIdempotencyStore(Duration ttl, long maximumSize, Duration lockTimeout, Clock clock) {
+        this.records = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        IdempotencyRecord mine = IdempotencyRecord.inProgress(fingerprint, clock.instant().plus(lockTimeout));
+        IdempotencyRecord holder = records.asMap().compute(key,
+                (k, current) -> current == null || current.isAbandoned(clock.instant()) ? mine : current);
+        return holder == mine ? Optional.empty() : Optional.of(holder);
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, IdempotentResponse response) {
+        records.put(key, IdempotencyRecord.inProgress(fingerprint, clock.instant()).complete(response));
+    }
+
+    @Override
+    public void release(String key) {
+        records.asMap().computeIfPresent(key, (k, current) -> current.isCompleted() ? current : null);
+    }
+
+    long size() {
+        records.cleanUp();
+        return records.estimatedSize();
+    }
+}
@@ -1,21 +1,47 @@
 package com.backend.backend.infrastructure.web.idempotency;
 
+import com.backend.backend.config.IdempotencyProps;
+import com.backend.backend.security.JwtVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
 
 @Configuration
+@EnableConfigurationProperties(IdempotencyProps.class)
+@Slf4j
 public class IdempotencyConfig {
 
     @Bean
-    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+    public IdempotencyStore idempotencyStore(IdempotencyProps props, JdbcTemplate jdbcTemplate) {
+        log.info("Idempotency store: {}, ttl={}", props.getStore(), props.getTtl());
+        return switch (props.getStore()) {
+            case "memory" -> new CaffeineIdempotencyStore(props.getTtl(), props.getMaximumSize(),
+                    props.getLockTimeout(), Clock.systemUTC());
+            case "jdbc" -> new TieredIdempotencyStore(
+                    new JdbcIdempotencyStore(jdbcTemplate, props.getTtl(), props.getLockTimeout(), Clock.systemUTC()),
+                    props.getTtl(), props.getMaximumSize());
+            default -> throw new IllegalStateException("Unknown app.idempotency.store '" + props.getStore()
+                    + "'. Supported: memory, jdbc");
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store, IdempotencyProps props,
+                                                                       JwtVerifier jwtVerifier, ObjectMapper objectMapper,
+                                                                       MeterRegistry registry) {
         FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new IdempotencyFilter());
-        registrationBean.addUrlPatterns("/api/v1/orders/*");
-        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        registrationBean.setFilter(new IdempotencyFilter(store, props, jwtVerifier, objectMapper, registry));
+        // Mọi endpoint ghi của order và stock
+        registrationBean.addUrlPatterns("/api/v1/orders/*", "/api/v1/order-items/*", "/api/v1/stock-entries/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
         return registrationBean;
     }
 }
-
-
@@ -1,48 +1,274 @@
 package com.backend.backend.infrastructure.web.idempotency;
 
-import jakarta.servlet.Filter;
+import com.backend.backend.config.IdempotencyProps;
+import com.backend.backend.infrastructure.exception.ErrorResponse;
+import com.backend.backend.security.JwtVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
- * Simple in-memory Idempotency-Key filter for POST /api/v1/orders.
- * NOTE: For production, prefer a distributed store (Redis) with TTL.
+ * Makes mutating requests carrying an {@code Idempotency-Key} safe to retry.
+ * <p>
+ * Keys are scoped per user and route ({@code METHOD path}). The first request with a key runs and its
+ * status and body are recorded (5xx and transient 4xx such as 429 are not, so those can be retried);
+ * a retry of the same request gets the recorded response replayed with {@code Idempotent-Replayed: true}.
+ * A retry arriving while the first request still runs waits up to {@code wait-timeout} for it, then
+ * gets a 409. Reusing a key for a different body is a 422.
  */
-public class IdempotencyFilter implements Filter {
-    private static final ConcurrentHashMap<String, Long> seenKeys = new ConcurrentHashMap<>();
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_MILLIS = 50;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore store;
+    private final IdempotencyProps props;
+    private final JwtVerifier jwtVerifier;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    /** Keys whose first request is running on this node; local retries wake up when it finishes. */
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> running = new ConcurrentHashMap<>();
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-        HttpServletRequest req = (HttpServletRequest) request;
-        HttpServletResponse res = (HttpServletResponse) response;
-
-        if ("POST".equalsIgnoreCase(req.getMethod()) && req.getRequestURI().startsWith("/api/v1/orders")) {
-            String key = req.getHeader("Idempotency-Key");
-            if (key == null || key.isBlank()) {
-                res.setStatus(400);
-                res.setContentType("application/json");
-                res.getWriter().write("{\"error\":\"Missing Idempotency-Key header\"}");
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key == null || key.isBlank()) {
+            if (requiresKey(request)) {
+                reject(request, response, HttpStatus.BAD_REQUEST, "Missing Idempotency-Key header");
                 return;
             }
+            chain.doFilter(request, response);
+            return;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            reject(request, response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        String route = request.getMethod() + " " + request.getRequestURI();
+        String query = request.getQueryString() != null ? request.getQueryString() : "";
+        String fingerprint = sha256(route.getBytes(StandardCharsets.UTF_8), query.getBytes(StandardCharsets.UTF_8),
+                cached.body());
+        String scopedKey = sha256((scope(request) + "\n" + route + "\n" + key).getBytes(StandardCharsets.UTF_8));
 
-            Long existed = seenKeys.putIfAbsent(key, System.currentTimeMillis());
-            if (existed != null) {
-                res.setStatus(409);
-                res.setContentType("application/json");
-                res.getWriter().write("{\"error\":\"Duplicate Idempotency-Key\"}");
+        long deadline = System.nanoTime() + props.getWaitTimeout().toNanos();
+        while (true) {
+            Optional<IdempotencyRecord> holder = store.claim(scopedKey, fingerprint);
+            if (holder.isEmpty()) {
+                execute(cached, response, chain, scopedKey, fingerprint);
+                return;
+            }
+            IdempotencyRecord record = holder.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                count("mismatch");
+                reject(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Idempotency-Key was already used for a different request");
+                return;
+            }
+            if (record.isCompleted()) {
+                count("replayed");
+                replay(response, record.response());
+                return;
+            }
+            if (!awaitRunning(scopedKey, deadline)) {
+                count("in_progress");
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(request, response, HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still being processed");
                 return;
             }
         }
+    }
 
-        chain.doFilter(request, response);
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain chain,
+                         String key, String fingerprint) throws ServletException, IOException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        running.put(key, done);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean recorded = false;
+        try {
+            chain.doFilter(request, wrapper);
+            count("executed");
+            if (isFinalOutcome(wrapper.getStatus())) {
+                recorded = record(key, fingerprint, wrapper);
+            }
+        } finally {
+            if (!recorded) {
+                release(key);
+            }
+            running.remove(key, done);
+            done.complete(null);
+            wrapper.copyBodyToResponse();
+        }
     }
-}
 
+    private boolean record(String key, String fingerprint, ContentCachingResponseWrapper wrapper) {
+        try {
+            store.complete(key, fingerprint, new IdempotentResponse(wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray()));
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not record idempotent response, a retry will run again: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (DataAccessException e) {
+            // The claim runs out after lock-timeout.
+            log.warn("Could not release idempotency key: {}", e.getMessage());
+        }
+    }
 
+    /**
+     * Waits for the request holding the key: on the local future if it runs on this node, otherwise
+     * for one poll interval.
+     *
+     * @return false once the deadline has passed
+     */
+    private boolean awaitRunning(String key, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        CompletableFuture<Void> local = running.get(key);
+        try {
+            if (local != null) {
+                local.get(remaining, TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(Math.min(POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // Never completed exceptionally; claim again.
+            return true;
+        }
+    }
+
+    /**
+     * Whether a status is the request's final outcome. Throttling (429, set later by the rate limit
+     * filter), timeouts and conflicts (408, 409, 425) say nothing about the write, so a retry must run.
+     */
+    static boolean isFinalOutcome(int status) {
+        return status < 500 && status != 408 && status != 409 && status != 425 && status != 429;
+    }
+
+    private static void replay(HttpServletResponse response, IdempotentResponse recorded) throws IOException {
+        byte[] body = recorded.body() != null ? recorded.body() : new byte[0];
+        response.setStatus(recorded.status());
+        if (recorded.contentType() != null) {
+            response.setContentType(recorded.contentType());
+        }
+        if (recorded.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, recorded.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean requiresKey(HttpServletRequest request) {
+        return "POST".equals(request.getMethod())
+                && props.getRequireKeyFor().stream().anyMatch(request.getRequestURI()::startsWith);
+    }
+
+    /**
+     * The authenticated user, or the subject of a valid bearer token when this filter runs before
+     * authentication.
+     */
+    private String scope(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            Optional<String> subject = jwtVerifier.tryVerify(header.substring(7)).map(Claims::getSubject);
+            if (subject.isPresent()) {
+                return "user:" + subject.get();
+            }
+        }
+        return "anonymous";
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(OffsetDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build());
+    }
+
+    private void count(String outcome) {
+        registry.counter("http.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private static String sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import java.time.Instant;
+
+/**
+ * State of an idempotency key: claimed by a running request until {@code lockedUntil}, then
+ * completed with the response to replay.
+ *
+ * @param fingerprint hash of the request that claimed the key; a retry must match it
+ * @param response    {@code null} while the original request is still running
+ */
+public record IdempotencyRecord(String fingerprint, IdempotentResponse response, Instant lockedUntil) {
+
+    public static IdempotencyRecord inProgress(String fingerprint, Instant lockedUntil) {
+        return new IdempotencyRecord(fingerprint, null, lockedUntil);
+    }
+
+    public IdempotencyRecord complete(IdempotentResponse response) {
+        return new IdempotencyRecord(fingerprint, response, lockedUntil);
+    }
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+
+    /**
+     * Whether the request holding the key ran past its lock, so the key may be claimed again.
+     */
+    public boolean isAbandoned(Instant now) {
+        return !isCompleted() && lockedUntil.isBefore(now);
+    }
+}
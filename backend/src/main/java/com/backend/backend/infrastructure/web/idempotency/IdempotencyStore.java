@@ -0,0 +1,26 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Storage of idempotency keys. Keys are already scoped (user, route) and hashed by the caller.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims {@code key} for a new execution of the request identified by {@code fingerprint}.
+     *
+     * @return empty if the key was claimed, otherwise the record currently holding it
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint);
+
+    /**
+     * Records the response of the request that claimed {@code key}.
+     */
+    void complete(String key, String fingerprint, IdempotentResponse response);
+
+    /**
+     * Gives up a claim without a response (e.g. the request failed), so a retry runs again.
+     */
+    void release(String key);
+}
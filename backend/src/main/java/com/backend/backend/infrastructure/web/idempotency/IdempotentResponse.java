@@ -0,0 +1,7 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+/**
+ * What is replayed to a retry: the status, body and the headers that describe them.
+ */
+public record IdempotentResponse(int status, String contentType, String location, byte[] body) {
+}
@@ -0,0 +1,116 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Store shared by all nodes: one row per key in {@code idempotency_keys}. The primary key makes
+ * the claim atomic across nodes; expired rows and abandoned claims are deleted before claiming,
+ * and expired rows are purged in batches every {@code PURGE_INTERVAL}.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Clock clock;
+    private volatile Instant nextPurge;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lockTimeout, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+        this.nextPurge = clock.instant().plus(PURGE_INTERVAL);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        Instant now = clock.instant();
+        purgeIfDue(now);
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idem_key = ?"
+                            + " AND (expires_at < ? OR (status_code IS NULL AND locked_until < ?))",
+                    key, Timestamp.from(now), Timestamp.from(now));
+            try {
+                jdbcTemplate.update("INSERT INTO idempotency_keys (idem_key, fingerprint, locked_until, expires_at)"
+                                + " VALUES (?, ?, ?, ?)",
+                        key, fingerprint, Timestamp.from(now.plus(lockTimeout)), Timestamp.from(now.plus(ttl)));
+                return Optional.empty();
+            } catch (DuplicateKeyException e) {
+                Optional<IdempotencyRecord> holder = find(key);
+                if (holder.isPresent()) {
+                    return holder;
+                }
+                // Released or expired in between: try again.
+            }
+        }
+        throw new IllegalStateException("Could not claim idempotency key after " + MAX_CLAIM_ATTEMPTS + " attempts");
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, IdempotentResponse response) {
+        Instant now = clock.instant();
+        jdbcTemplate.update("UPDATE idempotency_keys SET status_code = ?, content_type = ?, location = ?, body = ?,"
+                        + " expires_at = ? WHERE idem_key = ?",
+                response.status(), response.contentType(), response.location(), response.body(),
+                Timestamp.from(now.plus(ttl)), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idem_key = ? AND status_code IS NULL", key);
+    }
+
+    Optional<IdempotencyRecord> find(String key) {
+        List<IdempotencyRecord> rows = jdbcTemplate.query(
+                "SELECT fingerprint, status_code, content_type, location, body, locked_until"
+                        + " FROM idempotency_keys WHERE idem_key = ?",
+                (rs, i) -> {
+                    int status = rs.getInt("status_code");
+                    IdempotentResponse response = rs.wasNull() ? null : new IdempotentResponse(
+                            status, rs.getString("content_type"), rs.getString("location"), rs.getBytes("body"));
+                    return new IdempotencyRecord(rs.getString("fingerprint"), response,
+                            rs.getTimestamp("locked_until").toInstant());
+                },
+                key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Deletes keys past their ttl, in batches.
+     */
+    int purgeExpired(Instant now) {
+        int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ? LIMIT 10000",
+                Timestamp.from(now));
+        if (deleted > 0) {
+            log.debug("Purged {} expired idempotency keys", deleted);
+        }
+        return deleted;
+    }
+
+    private void purgeIfDue(Instant now) {
+        if (now.isBefore(nextPurge)) {
+            return;
+        }
+        nextPurge = now.plus(PURGE_INTERVAL);
+        try {
+            purgeExpired(now);
+        } catch (DataAccessException e) {
+            log.warn("Could not purge expired idempotency keys: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Shared store with an in-memory tier of completed records in front, so repeated retries on the
+ * same node are replayed without a database round trip. Claims always go to the shared store.
+ */
+public class TieredIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> completed;
+    private final IdempotencyStore shared;
+
+    public TieredIdempotencyStore(IdempotencyStore shared, Duration ttl, long maximumSize) {
+        this.shared = shared;
+        // A copy read late can outlive its row by up to a ttl; replaying it that much longer is harmless.
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        IdempotencyRecord local = completed.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        Optional<IdempotencyRecord> holder = shared.claim(key, fingerprint);
+        holder.filter(IdempotencyRecord::isCompleted).ifPresent(record -> completed.put(key, record));
+        return holder;
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, IdempotentResponse response) {
+        shared.complete(key, fingerprint, response);
+        completed.put(key, new IdempotencyRecord(fingerprint, response, null));
+    }
+
+    @Override
+    public void release(String key) {
+        shared.release(key);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.backend.infrastructure.web.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.util.Iterator;
+
+/**
+ * Counts access-log records the async appender dropped because its ring buffer was full, as
+ * {@code logging.access.dropped}.
+ */
+@Slf4j
+class AccessLogDropCounter implements MeterBinder {
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Counter dropped = Counter.builder("logging.access.dropped")
+                .description("Access log records dropped because the async ring buffer was full")
+                .register(registry);
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(RequestLoggingFilter.ACCESS_LOGGER)
+                .iteratorForAppenders();
+        boolean attached = false;
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof LoggingEventAsyncDisruptorAppender async) {
+                async.addListener(new AppenderListener<>() {
+                    @Override
+                    public void eventAppendFailed(Appender<ILoggingEvent> source, ILoggingEvent event, Throwable reason) {
+                        dropped.increment();
+                    }
+                });
+                attached = true;
+            }
+        }
+        if (!attached) {
+            log.info("Access log is not written through an async appender; logging.access.dropped stays 0");
+        }
+    }
+}
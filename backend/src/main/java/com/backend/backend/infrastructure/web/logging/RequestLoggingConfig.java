@@ -1,21 +1,31 @@
 package com.backend.backend.infrastructure.web.logging;
 
+import com.backend.backend.config.AccessLogProps;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 
 @Configuration
+@EnableConfigurationProperties(AccessLogProps.class)
 @Slf4j
 public class RequestLoggingConfig {
     
     @Bean
-    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter() {
+    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(AccessLogProps props) {
         FilterRegistrationBean<RequestLoggingFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RequestLoggingFilter());
-        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setFilter(new RequestLoggingFilter(props));
+        // Mọi request (kể cả /auth/**); path loại trừ nằm trong app.access-log.exclude-paths
+        registrationBean.addUrlPatterns("/*");
         registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
         return registrationBean;
     }
+
+    @Bean
+    public MeterBinder accessLogDropCounter() {
+        return new AccessLogDropCounter();
+    }
 }
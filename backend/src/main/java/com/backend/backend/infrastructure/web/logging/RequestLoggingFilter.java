@@ -1,64 +1,118 @@
 package com.backend.backend.infrastructure.web.logging;
 
-import jakarta.servlet.Filter;
+import com.backend.backend.config.AccessLogProps;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import static net.logstash.logback.argument.StructuredArguments.v;
+
+/**
+ * Writes one access-log record per request to the {@code access} logger, which logback hands to
+ * an asynchronous ring buffer that drops records instead of blocking when it is full.
+ * <p>
+ * Fields are structured arguments, so the prod JSON encoder emits them as separate fields.
+ * Successful requests are sampled at {@code success-sample-rate}; errors, failures and slow requests are
+ * always logged.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    static final String ACCESS_LOGGER = "access";
+    private static final Logger access = LoggerFactory.getLogger(ACCESS_LOGGER);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AccessLogProps props;
+    private final DoubleSupplier random;
+
+    public RequestLoggingFilter(AccessLogProps props) {
+        this(props, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RequestLoggingFilter(AccessLogProps props, DoubleSupplier random) {
+        this.props = props;
+        this.random = random;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!props.isEnabled() || !access.isInfoEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return props.getExcludePaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
 
-@Slf4j
-public class RequestLoggingFilter implements Filter {
-    
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-        
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-        
-        Instant startTime = Instant.now();
-        String method = httpRequest.getMethod();
-        String uri = httpRequest.getRequestURI();
-        String queryString = httpRequest.getQueryString();
-        String userAgent = httpRequest.getHeader("User-Agent");
-        String clientIp = getClientIpAddress(httpRequest);
-        
-        String fullUri = queryString != null ? uri + "?" + queryString : uri;
-        
-        log.info("Incoming request: {} {} from {} - User-Agent: {}", 
-                method, fullUri, clientIp, userAgent);
-        
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
         try {
             chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
         } finally {
-            Instant endTime = Instant.now();
-            Duration duration = Duration.between(startTime, endTime);
-            int status = httpResponse.getStatus();
-            
-            log.info("Request completed: {} {} - Status: {} - Duration: {}ms", 
-                    method, fullUri, status, duration.toMillis());
+            long durationNanos = System.nanoTime() - start;
+            // An exception escaping the chain becomes a 500 later, in the error dispatch
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            if (shouldLog(status, durationNanos)) {
+                log(request, response, status, durationNanos, failure);
+            }
+        }
+    }
+
+    boolean shouldLog(int status, long durationNanos) {
+        if (alwaysLogged(status, durationNanos)) {
+            return true;
         }
+        double rate = props.getSuccessSampleRate();
+        return rate >= 1.0 || (rate > 0.0 && random.getAsDouble() < rate);
+    }
+
+    private boolean alwaysLogged(int status, long durationNanos) {
+        return status >= 400 || durationNanos >= props.getSlowThreshold().toNanos();
     }
-    
+
+    private void log(HttpServletRequest request, HttpServletResponse response, int status, long durationNanos,
+                     Throwable failure) {
+        String query = request.getQueryString();
+        String path = query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+        access.info("{} {} {} {}ms",
+                v("method", request.getMethod()),
+                v("path", path),
+                v("status", status),
+                v("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos)),
+                v("clientIp", getClientIpAddress(request)),
+                v("userAgent", request.getHeader("User-Agent")),
+                v("correlationId", response.getHeader("X-Correlation-ID")),
+                // Weight for counting requests from sampled logs
+                v("sampleRate", alwaysLogged(status, durationNanos) ? 1.0 : props.getSuccessSampleRate()),
+                v("error", failure != null ? failure.getClass().getName() : null));
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
             return xForwardedFor.split(",")[0].trim();
         }
-        
+
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty()) {
             return xRealIp;
         }
-        
+
         return request.getRemoteAddr();
     }
 }
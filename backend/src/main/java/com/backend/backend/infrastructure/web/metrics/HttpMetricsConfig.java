@@ -0,0 +1,24 @@
+package com.backend.backend.infrastructure.web.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Route tags for {@code http.server.requests} (picked up by Spring Boot's observation filter) and the
+ * slow-routes actuator view. Histograms, percentiles and SLO buckets are set under
+ * {@code management.metrics.distribution} in application.yml.
+ */
+@Configuration
+public class HttpMetricsConfig {
+
+    @Bean
+    public RouteObservationConvention routeObservationConvention() {
+        return new RouteObservationConvention();
+    }
+
+    @Bean
+    public SlowRoutesEndpoint slowRoutesEndpoint(MeterRegistry registry) {
+        return new SlowRoutesEndpoint(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.backend.infrastructure.web.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Adds {@code status.class} (2xx, 4xx...) and {@code api.version} to the {@code http.server.requests}
+ * timers, next to the default method, uri template, status and outcome tags.
+ */
+public class RouteObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String STATUS_CLASS = "status.class";
+    static final String API_VERSION = "api.version";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of(STATUS_CLASS, statusClass(context)), KeyValue.of(API_VERSION, apiVersion(context)));
+    }
+
+    private static String statusClass(ServerRequestObservationContext context) {
+        HttpServletResponse response = context.getResponse();
+        if (response == null) {
+            return "UNKNOWN";
+        }
+        // Exceptions that escaped the handler end as 500 in the error dispatch
+        int status = context.getError() != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        return (status / 100) + "xx";
+    }
+
+    /**
+     * From the URI the client called: legacy {@code /api/...} paths are forwarded to v1, but are counted
+     * separately so their remaining traffic shows up.
+     */
+    private static String apiVersion(ServerRequestObservationContext context) {
+        String uri = context.getCarrier().getRequestURI();
+        if (!uri.startsWith("/api/")) {
+            return "none";
+        }
+        int end = uri.indexOf('/', "/api/".length());
+        String segment = uri.substring("/api/".length(), end > 0 ? end : uri.length());
+        return segment.matches("v\\d+") ? segment : "legacy";
+    }
+}
@@ -0,0 +1,81 @@
+package com.backend.backend.infrastructure.web.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /actuator/slowroutes}: {@code http.server.requests} series ranked by p95, slowest first.
+ * <p>
+ * Percentiles and max come from Micrometer's rolling window ({@code management.metrics.distribution.expiry}),
+ * so they reflect recent traffic; {@code count} and {@code meanMillis} are since startup. Series without
+ * requests in the window are left out.
+ */
+@Endpoint(id = "slowroutes")
+@RequiredArgsConstructor
+public class SlowRoutesEndpoint {
+
+    static final String METRIC = "http.server.requests";
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final MeterRegistry registry;
+
+    @ReadOperation
+    public List<RouteLatency> slowRoutes(@Nullable Integer limit) {
+        return registry.find(METRIC).timers().stream()
+                .filter(timer -> !String.valueOf(timer.getId().getTag("uri")).startsWith("/actuator"))
+                .map(SlowRoutesEndpoint::toRoute)
+                .filter(route -> route.windowMaxMillis() > 0)
+                .sorted(Comparator.comparingDouble(RouteLatency::rank).reversed())
+                .limit(limit != null && limit > 0 ? limit : DEFAULT_LIMIT)
+                .toList();
+    }
+
+    private static RouteLatency toRoute(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put(label(value.percentile()), value.value(TimeUnit.MILLISECONDS));
+        }
+        return new RouteLatency(
+                timer.getId().getTag("method"),
+                timer.getId().getTag("uri"),
+                timer.getId().getTag(RouteObservationConvention.STATUS_CLASS),
+                timer.getId().getTag(RouteObservationConvention.API_VERSION),
+                percentiles,
+                snapshot.max(TimeUnit.MILLISECONDS),
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.count());
+    }
+
+    /**
+     * 0.95 -> p95, 0.999 -> p99.9
+     */
+    static String label(double percentile) {
+        double value = Math.round(percentile * 1000) / 10.0;
+        return value == Math.rint(value) ? "p" + (long) value : "p" + value;
+    }
+
+    public record RouteLatency(String method, String uri, String statusClass, String apiVersion,
+                               Map<String, Double> percentileMillis, double windowMaxMillis, double meanMillis,
+                               long count) {
+
+        /**
+         * p95 when percentiles are published, otherwise the window max.
+         */
+        double rank() {
+            return percentileMillis.getOrDefault("p95", windowMaxMillis);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.backend.infrastructure.web.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Collapses concurrent identical calls of a read-only controller method into one execution whose
+ * result (or exception) every caller receives.
+ * <p>
+ * Calls are identical when they have the same method, equal arguments and the same caller scope
+ * (user name and authorities, or anonymous). An {@code HttpServletRequest} argument compares by its
+ * query string and {@code Accept} / {@code Accept-Encoding} headers. The method must return its whole
+ * response and must not change state, since waiters never run it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+}
@@ -0,0 +1,36 @@
+package com.backend.backend.infrastructure.web.singleflight;
+
+import com.backend.backend.config.SingleFlightProps;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Proxies {@link SingleFlight} methods. The advisor is an infrastructure bean so the auto-proxy
+ * creator already registered for {@code @Cacheable} / {@code @Transactional} picks it up, without AspectJ.
+ */
+@Configuration
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@EnableConfigurationProperties(SingleFlightProps.class)
+public class SingleFlightConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public SingleFlightInterceptor singleFlightInterceptor(SingleFlightProps props,
+                                                           ObjectProvider<MeterRegistry> registry) {
+        return new SingleFlightInterceptor(props, registry::getObject);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor singleFlightAdvisor(SingleFlightInterceptor interceptor) {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, SingleFlight.class, true), interceptor);
+    }
+}
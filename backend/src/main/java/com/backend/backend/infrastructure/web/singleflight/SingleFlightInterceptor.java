@@ -0,0 +1,171 @@
+package com.backend.backend.infrastructure.web.singleflight;
+
+import com.backend.backend.config.SingleFlightProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link SingleFlight} methods once per set of identical concurrent calls: the first call
+ * executes, later ones wait for its outcome (at most {@code max-wait}, then they run themselves).
+ * <p>
+ * Counted in {@code http.server.single_flight.calls} by method and {@code result}
+ * ({@code executed}, {@code coalesced}, {@code timeout}); the collapse ratio is coalesced over all calls.
+ * {@code http.server.single_flight.fanout} records how many waiters each execution served.
+ */
+@Slf4j
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final SingleFlightProps props;
+    // Lấy registry khi có call đầu tiên: advisor được tạo sớm, trước khi Micrometer cấu hình xong registry
+    private final Supplier<MeterRegistry> registry;
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    public SingleFlightInterceptor(SingleFlightProps props, Supplier<MeterRegistry> registry) {
+        this.props = props;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        if (!props.isEnabled()) {
+            return invocation.proceed();
+        }
+        Meters meters = meters(invocation.getMethod());
+        FlightKey key = key(invocation);
+        Flight flight = new Flight();
+        Flight running = flights.putIfAbsent(key, flight);
+        if (running == null) {
+            return execute(invocation, key, flight, meters);
+        }
+        running.waiters.incrementAndGet();
+        try {
+            Object result = running.result.get(props.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+            meters.coalesced.increment();
+            return result;
+        } catch (ExecutionException e) {
+            meters.coalesced.increment();
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            meters.timeout.increment();
+            log.debug("Single-flight wait timed out after {}, running {} itself", props.getMaxWait(),
+                    invocation.getMethod().getName());
+            return invocation.proceed();
+        }
+    }
+
+    private Object execute(MethodInvocation invocation, FlightKey key, Flight flight, Meters meters)
+            throws Throwable {
+        meters.executed.increment();
+        try {
+            Object result = invocation.proceed();
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.result.completeExceptionally(t);
+            throw t;
+        } finally {
+            flights.remove(key, flight);
+            meters.fanout.record(flight.waiters.get());
+        }
+    }
+
+    /**
+     * Calls currently waiting for an identical one.
+     */
+    int waiting() {
+        return flights.values().stream().mapToInt(flight -> flight.waiters.get()).sum();
+    }
+
+    static FlightKey key(MethodInvocation invocation) {
+        List<Object> args = new ArrayList<>(invocation.getArguments().length);
+        for (Object arg : invocation.getArguments()) {
+            args.add(arg instanceof HttpServletRequest request ? representation(request) : arg);
+        }
+        return new FlightKey(invocation.getMethod(), args, scope());
+    }
+
+    /**
+     * The parts of the request that shape the response besides bound arguments.
+     */
+    private static List<String> representation(HttpServletRequest request) {
+        return Arrays.asList(request.getQueryString(), request.getHeader(HttpHeaders.ACCEPT),
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private static String scope() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return ANONYMOUS;
+        }
+        return auth.getName() + auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+    }
+
+    private Meters meters(Method method) {
+        return meters.computeIfAbsent(method, m -> new Meters(registry.get(),
+                m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+    }
+
+    record FlightKey(Method method, List<Object> args, String scope) {
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    private static final class Meters {
+
+        private final Counter executed;
+        private final Counter coalesced;
+        private final Counter timeout;
+        private final DistributionSummary fanout;
+
+        Meters(MeterRegistry registry, String method) {
+            this.executed = counter(registry, method, "executed");
+            this.coalesced = counter(registry, method, "coalesced");
+            this.timeout = counter(registry, method, "timeout");
+            this.fanout = DistributionSummary.builder("http.server.single_flight.fanout")
+                    .description("Waiters served by one execution of a @SingleFlight method")
+                    .tag("method", method)
+                    .register(registry);
+        }
+
+        private static Counter counter(MeterRegistry registry, String method, String result) {
+            return Counter.builder("http.server.single_flight.calls")
+                    .description("Calls of @SingleFlight methods by whether they executed or joined an identical call")
+                    .tags("method", method, "result", result)
+                    .register(registry);
+        }
+    }
+}
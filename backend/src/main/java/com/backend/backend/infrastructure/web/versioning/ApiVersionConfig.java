@@ -13,7 +13,7 @@ public class ApiVersionConfig {
         FilterRegistrationBean<ApiVersionRedirectFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setFilter(new ApiVersionRedirectFilter());
         registrationBean.addUrlPatterns("/api/*");
-        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
         return registrationBean;
     }
 }
@@ -12,6 +12,7 @@ public interface ProductMapper {
     // Create: DTO -> Entity
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "slug", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(ProductCreateRequest request);
 
     // Read: Entity -> Response
@@ -21,5 +22,6 @@ public interface ProductMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "slug", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget Product entity, ProductUpdateRequest request);
 }
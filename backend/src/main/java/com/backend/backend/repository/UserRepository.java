@@ -2,8 +2,10 @@ package com.backend.backend.repository;
 
 import com.backend.backend.entity.User;
 import com.backend.backend.entity.Role;
+import com.backend.backend.security.UserSecurityState;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
@@ -16,6 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
     
+    @Query("SELECT new com.backend.backend.security.UserSecurityState(u.id, u.tokenVersion) FROM User u WHERE u.id = :id")
+    Optional<UserSecurityState> findSecurityStateById(@Param("id") Long id);
+
     @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
     Page<User> findAllActive(Pageable pageable);
 }
@@ -2,20 +2,21 @@ package com.backend.backend.service;
 
 import com.backend.backend.entity.User;
 import com.backend.backend.repository.UserRepository;
+import com.backend.backend.security.JwtUtil;
+import com.backend.backend.security.JwtVerifier;
+import com.backend.backend.security.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -23,22 +24,18 @@ import java.util.Optional;
 public class JwtTokenService {
 
     private final UserRepository userRepository;
-
-    @Value("${jwt.secret:mySecretKey}")
-    private String secret;
+    private final JwtVerifier jwtVerifier;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${jwt.expiration:86400000}") // 24 hours
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
-
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getId());
+        claims.put(JwtUtil.USER_ID_CLAIM, user.getId());
         claims.put("username", user.getUsername());
-        claims.put("role", user.getRole().name());
+        claims.put(JwtUtil.ROLE_CLAIM, user.getRole().name());
+        claims.put(JwtUtil.TOKEN_VERSION_CLAIM, user.getTokenVersion());
         claims.put("email", user.getEmail());
 
         return createToken(claims, user.getUsername());
@@ -49,25 +46,25 @@ public class JwtTokenService {
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(jwtVerifier.signingKey(), Jwts.SIG.HS256)
                 .compact();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Verifies the token once; callers needing several claims should use the result instead of
+     * the {@code get*FromToken} helpers.
+     */
+    public Optional<Claims> verify(String token) {
+        return jwtVerifier.tryVerify(token);
     }
 
     public String getUsernameFromToken(String token) {
@@ -77,36 +74,41 @@ public class JwtTokenService {
 
     public Long getUserIdFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
-        Number userIdNumber = claims.get("userId", Number.class);
+        Number userIdNumber = claims.get(JwtUtil.USER_ID_CLAIM, Number.class);
         return userIdNumber != null ? userIdNumber.longValue() : null;
     }
 
     public String getRoleFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
-        return claims.get("role", String.class);
+        return claims.get(JwtUtil.ROLE_CLAIM, String.class);
     }
 
     public Optional<User> getUserFromToken(String token) {
-        try {
-            Long userId = getUserIdFromToken(token);
-            if (userId != null) {
-                return userRepository.findById(userId);
-            }
-            // Fallback: try by username in subject for older tokens
-            String username = getUsernameFromToken(token);
-            return userRepository.findByUsername(username);
-        } catch (Exception e) {
-            log.warn("Error extracting user from token: {}", e.getMessage());
+        return verify(token).flatMap(this::getUserFromClaims);
+    }
+
+    /**
+     * Loads the user a verified token belongs to. Revoked tokens, and tokens whose version is no
+     * longer current (password or role changed, user deactivated), resolve to no user.
+     */
+    public Optional<User> getUserFromClaims(Claims claims) {
+        if (tokenRevocationService.isRevoked(claims.getId())) {
             return Optional.empty();
         }
+        Number userId = claims.get(JwtUtil.USER_ID_CLAIM, Number.class);
+        Optional<User> user = userId != null
+                ? userRepository.findById(userId.longValue())
+                // Fallback: try by username in subject for older tokens
+                : userRepository.findByUsername(claims.getSubject());
+        Number version = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Number.class);
+        if (version != null) {
+            user = user.filter(u -> u.getTokenVersion() == version.intValue());
+        }
+        return user;
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtVerifier.verify(token);
     }
 
     public boolean isTokenExpired(String token) {
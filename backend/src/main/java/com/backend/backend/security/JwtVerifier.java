@@ -0,0 +1,145 @@
+package com.backend.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Single place where JWTs are verified.
+ * <p>
+ * The HMAC key and the parser are built once. Verified claims are kept in a bounded cache keyed
+ * by the SHA-256 of the token, until the token expires, so a token presented on many requests
+ * (or parsed several times within one) has its signature checked once. Invalid tokens are never
+ * cached. Revocation is not decided here: see {@link UserSecurityState}.
+ */
+@Slf4j
+@Component
+public class JwtVerifier {
+
+    /** Tokens without an {@code exp} claim are re-verified at least this often. */
+    static final Duration MAX_CACHED = Duration.ofMinutes(5);
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verified;
+
+    @Autowired
+    public JwtVerifier(@Value("${jwt.secret:mySecretKey}") String secret,
+                       @Value("${jwt.verified-cache-size:10000}") long maximumSize,
+                       MeterRegistry meterRegistry) {
+        this(Ticker.systemTicker(), secret, maximumSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt-verified");
+    }
+
+    JwtVerifier(Ticker ticker, String secret, long maximumSize) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Key used to sign the tokens this verifier accepts.
+     */
+    public SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Verifies the signature and expiry of {@code token}, answering from the cache when it was
+     * verified before.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT must not be blank");
+        }
+        String hash = sha256(token);
+        Claims claims = verified.getIfPresent(hash);
+        if (claims == null || isExpired(claims)) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verified.put(hash, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Like {@link #verify(String)}, but an invalid token yields an empty result.
+     */
+    public Optional<Claims> tryVerify(String token) {
+        try {
+            return Optional.of(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    long cachedTokens() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null && exp.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return MAX_CACHED.toNanos();
+            }
+            long remainingMillis = exp.getTime() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, remainingMillis)).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.backend.security;
+
+import com.backend.backend.shared.domain.exception.AppException;
+import com.backend.backend.shared.domain.exception.ErrorCode;
+
+/**
+ * Thrown when the password hashing executor is saturated; the request should be retried later.
+ */
+public class PasswordHashingBusyException extends AppException {
+
+    public PasswordHashingBusyException(String message) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, message, cause);
+    }
+}
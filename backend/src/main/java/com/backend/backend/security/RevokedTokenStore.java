@@ -0,0 +1,46 @@
+package com.backend.backend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Table {@code revoked_tokens}: ids ({@code jti}) of tokens revoked before they expire.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        jdbcTemplate.update("INSERT IGNORE INTO revoked_tokens (jti, user_id, expires_at) VALUES (?, ?, ?)",
+                jti, userId, Timestamp.from(expiresAt));
+    }
+
+    public boolean isRevoked(String jti) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM revoked_tokens WHERE jti = ? AND expires_at > ?",
+                Integer.class, jti, Timestamp.from(Instant.now()));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Streams the ids of unexpired tokens revoked at or after {@code since}.
+     */
+    public void forEachActive(Instant since, Consumer<String> action) {
+        jdbcTemplate.query("SELECT jti FROM revoked_tokens WHERE expires_at > ? AND revoked_at >= ?",
+                (RowCallbackHandler) rs -> action.accept(rs.getString(1)),
+                Timestamp.from(Instant.now()), Timestamp.from(since));
+    }
+
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at < ? LIMIT 10000",
+                Timestamp.from(Instant.now()));
+    }
+}
@@ -1,7 +1,8 @@
 package com.backend.backend.security;
 
 import com.backend.backend.entity.User;
-import com.backend.backend.repository.UserRepository;
+import com.backend.backend.infrastructure.persistence.NaturalIdLookup;
+import com.backend.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,7 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,16 +23,17 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class SecurityBeans {
 
-    private final UserRepository userRepository;
+    private final NaturalIdLookup naturalIdLookup;
     private final PasswordEncoder passwordEncoder;
-
+    private final UserService userService;
 
     @Bean
     public UserDetailsService userDetailsService() {
         return new UserDetailsService() {
             @Override
             public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-                User user = userRepository.findByUsername(username)
+                // Natural-id lookup: served from the second-level cache on repeat logins
+                User user = naturalIdLookup.find(User.class, username)
                         .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
                 return org.springframework.security.core.userdetails.User.builder()
@@ -43,11 +46,26 @@ public class SecurityBeans {
         };
     }
 
+    /**
+     * Called by the authentication provider after a successful login whose stored hash uses an
+     * outdated algorithm or cost, with the password re-encoded under the current settings.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            userService.upgradePasswordHash(user.getUsername(), user.getPassword(), newPassword);
+            return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                    .password(newPassword)
+                    .build();
+        };
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setPasswordEncoder(passwordEncoder);
         authProvider.setUserDetailsService(userDetailsService());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
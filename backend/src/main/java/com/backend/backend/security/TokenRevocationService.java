@@ -0,0 +1,170 @@
+package com.backend.backend.security;
+
+import com.backend.backend.config.TokenRevocationProps;
+import com.backend.backend.infrastructure.cache.BloomFilter;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revocation of single tokens by their {@code jti} (logout, stolen token).
+ * <p>
+ * Revoked ids are stored in {@code revoked_tokens} until the token expires, and added to an
+ * in-memory Bloom filter. Almost every request is answered "not revoked" by the filter alone;
+ * only its positives (revoked tokens and rare false positives) are checked against the table, and
+ * that answer is cached. Revocations reach the other nodes through the {@link CacheInvalidationBus}.
+ * The filter cannot forget, so it is periodically rebuilt from the unexpired rows.
+ * <p>
+ * Revoking every token of a user is done by bumping its token version, see {@link UserSecurityState}.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+
+    static final String BUS_NAME = "revoked-token";
+    /** Revocations committed while a rebuild reads the table are picked up by re-reading this far back. */
+    private static final Duration REBUILD_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenStore store;
+    private final CacheInvalidationBus bus;
+    private final TokenRevocationProps props;
+    /** Store answers for the filter's positives. */
+    private final Cache<String, Boolean> confirmed;
+    private final Counter storeChecks;
+    private volatile BloomFilter filter;
+
+    private ScheduledExecutorService scheduler;
+
+    public TokenRevocationService(RevokedTokenStore store, CacheInvalidationBus bus, TokenRevocationProps props,
+                                  MeterRegistry meterRegistry) {
+        this.store = store;
+        this.bus = bus;
+        this.props = props;
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.storeChecks = Counter.builder("auth.revocation.store.checks")
+                .description("Tokens the Bloom filter could not rule out, checked against the revoked-token table")
+                .register(meterRegistry);
+        this.filter = newFilter();
+        bus.subscribe(this::onRemote);
+    }
+
+    /**
+     * Revokes the token the claims were read from.
+     *
+     * @return {@code false} if the token carries no {@code jti} (issued before revocation existed)
+     */
+    public boolean revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return false;
+        }
+        Date exp = claims.getExpiration();
+        Number userId = claims.get(JwtUtil.USER_ID_CLAIM, Number.class);
+        store.revoke(jti, userId != null ? userId.longValue() : null,
+                exp != null ? exp.toInstant() : Instant.now().plus(props.getRebuildInterval()));
+        filter.put(jti);
+        confirmed.put(jti, true);
+        bus.publish(BUS_NAME, jti);
+        log.info("Revoked token {} of user {}", jti, userId);
+        return true;
+    }
+
+    /**
+     * Whether the token with this {@code jti} was revoked. Fails closed if the table cannot be read.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, id -> {
+            storeChecks.increment();
+            try {
+                return store.isRevoked(id);
+            } catch (DataAccessException e) {
+                log.warn("Could not check revocation of token {}, rejecting it: {}", id, e.getMessage());
+                return null;
+            }
+        }) != Boolean.FALSE;
+    }
+
+    /**
+     * Replaces the filter with one holding only the unexpired revocations, and purges expired rows.
+     */
+    void rebuild() {
+        Instant startedAt = Instant.now();
+        BloomFilter fresh = newFilter();
+        store.forEachActive(Instant.EPOCH, fresh::put);
+        filter = fresh;
+        // Revocations that landed while the table was being read.
+        store.forEachActive(startedAt.minus(REBUILD_OVERLAP), fresh::put);
+        int purged = store.purgeExpired();
+        log.debug("Rebuilt revoked-token filter, purged {} expired row(s)", purged);
+    }
+
+    private void onRemote(CacheInvalidation invalidation) {
+        if (!BUS_NAME.equals(invalidation.cacheName()) || invalidation.isClear()) {
+            return;
+        }
+        filter.put(invalidation.key());
+        confirmed.invalidate(invalidation.key());
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(props.getExpectedTokens(), props.getFalsePositiveRate());
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Revoked-token filter rebuild failed, keeping the current one: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "token-revocation-rebuild");
+            t.setDaemon(true);
+            return t;
+        });
+        // Load the revocations that survived a restart before serving requests.
+        rebuildSafely();
+        long interval = props.getRebuildInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.backend.security;
+
+/**
+ * What a JWT is checked against on every request: a token is accepted only while the user
+ * exists (not soft-deleted) and its {@code ver} claim equals {@code tokenVersion}.
+ */
+public record UserSecurityState(Long userId, Integer tokenVersion) {
+
+    public boolean accepts(Number tokenVersionClaim) {
+        return tokenVersionClaim != null && tokenVersion != null && tokenVersion == tokenVersionClaim.intValue();
+    }
+}
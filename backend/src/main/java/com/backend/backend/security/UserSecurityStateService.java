@@ -0,0 +1,28 @@
+package com.backend.backend.security;
+
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cached per-user security state. {@code UserService} evicts the entry whenever it bumps the
+ * token version; the eviction reaches every node through the cache invalidation bus.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSecurityStateService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * @return the state, or {@code null} if the user is deleted or unknown (cached as well)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId", sync = true)
+    public UserSecurityState get(Long userId) {
+        return userRepository.findSecurityStateById(userId).orElse(null);
+    }
+}
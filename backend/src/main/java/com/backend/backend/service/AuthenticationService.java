@@ -12,9 +12,11 @@ import java.util.Base64;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final PasswordService passwordService;
 
-    public AuthenticationService(UserRepository userRepository) {
+    public AuthenticationService(UserRepository userRepository, PasswordService passwordService) {
         this.userRepository = userRepository;
+        this.passwordService = passwordService;
     }
 
     public LoginResponse authenticate(LoginRequest request) {
@@ -27,7 +29,7 @@ public class AuthenticationService {
         }
 
         // Check password
-        if (!user.checkPassword(request.getPassword())) {
+        if (!passwordService.verifyPassword(request.getPassword(), user.getPasswordHash())) {
             return LoginResponse.error("Tên đăng nhập hoặc mật khẩu không đúng");
         }
 
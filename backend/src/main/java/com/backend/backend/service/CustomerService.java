@@ -17,6 +17,10 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.persistence.NaturalIdLookup;
+import com.backend.backend.infrastructure.cache.list.ListCacheInvalidator;
+import com.backend.backend.infrastructure.cache.list.ListQueryKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,29 +34,36 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final NegativeCache negativeCache;
+    private final NaturalIdLookup naturalIdLookup;
+    private final ListCacheInvalidator listCacheInvalidator;
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#result.id", condition = "#result != null"),
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, key = "#result.slug", condition = "#result != null")
+        @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, key = "#result.slug", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.CUSTOMER_NOT_FOUND, key = "#result.id", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.CUSTOMER_NOT_FOUND, key = "#result.slug", condition = "#result != null")
     })
     public CustomerResponse create(CustomerCreateRequest request) {
         Customer entity = customerMapper.toEntity(request);
         entity.setSlug(generateUniqueSlug(request.getName()));
         Customer saved = customerRepository.save(entity);
-        return customerMapper.toResponse(saved);
+        CustomerResponse response = customerMapper.toResponse(saved);
+        listCacheInvalidator.changed(CacheNames.CUSTOMER_LIST, null, response);
+        return response;
     }
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#id"),
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, allEntries = true) // Evict by slug if slug changes
+        @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, allEntries = true), // Evict by slug if slug changes
+        @CacheEvict(cacheNames = CacheNames.CUSTOMER_NOT_FOUND, key = "#result.slug", condition = "#result != null")
     })
     public CustomerResponse update(Long id, CustomerUpdateRequest request) {
         Customer entity = customerRepository.findById(id)
                 .orElseThrow(() -> CustomerException.notFound(id));
+        CustomerResponse before = customerMapper.toResponse(entity);
         customerMapper.updateEntity(entity, request); // partial update
         
         // Update slug if name is being updated
@@ -61,22 +72,30 @@ public class CustomerService {
         }
         
         Customer saved = customerRepository.save(entity);
-        return customerMapper.toResponse(saved);
+        CustomerResponse response = customerMapper.toResponse(saved);
+        listCacheInvalidator.changed(CacheNames.CUSTOMER_LIST, before, response);
+        return response;
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#id")
+    @Cacheable(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#id", sync = true)
     public CustomerResponse getById(Long id) {
         Customer entity = customerRepository.findById(id)
-                .orElseThrow(() -> CustomerException.notFound(id));
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.CUSTOMER_NOT_FOUND, id);
+                    return CustomerException.notFound(id);
+                });
         return customerMapper.toResponse(entity);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.CUSTOMER_BY_SLUG, key = "#slug")
+    @Cacheable(cacheNames = CacheNames.CUSTOMER_BY_SLUG, key = "#slug", sync = true)
     public CustomerResponse getBySlug(String slug) {
-        Customer entity = customerRepository.findBySlug(slug)
-                .orElseThrow(() -> CustomerException.notFound(slug));
+        Customer entity = naturalIdLookup.find(Customer.class, slug)
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.CUSTOMER_NOT_FOUND, slug);
+                    return CustomerException.notFound(slug);
+                });
         return customerMapper.toResponse(entity);
     }
 
@@ -88,29 +107,19 @@ public class CustomerService {
     }
 
     @Transactional(readOnly = true)
-    // @Cacheable(
-    //     cacheNames = CacheNames.CUSTOMER_LIST,
-    //     key = "T(java.util.Objects).hash(#page,#size,#sort,#search)"
-    // )
+    @Cacheable(
+        cacheNames = CacheNames.CUSTOMER_LIST,
+        key = "T(com.backend.backend.infrastructure.cache.list.ListQueryKey).of(#page,#size,#sort,#search)",
+        sync = true
+    )
     public PageResponse<CustomerResponse> list(int page, int size, String sort, String search) {
-        Sort s = (sort == null || sort.isBlank())
-                ? Sort.by("id").descending()
-                : Sort.by(sort.split(",")[0])
-                        .ascending();
-
-        // Xử lý sort direction nếu có
-        if (sort != null && !sort.isBlank() && sort.contains(",")) {
-            String[] sortParts = sort.split(",");
-            if (sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1])) {
-                s = Sort.by(sortParts[0]).descending();
-            }
-        }
-
-        Pageable pageable = PageRequest.of(page, size, s);
+        // Query from the normalized key so the cached page always matches its key
+        ListQueryKey query = ListQueryKey.of(page, size, sort, search);
+        Pageable pageable = query.toPageable();
 
         Page<Customer> result;
-        if (search != null && !search.isBlank()) {
-            result = customerRepository.findByNameContainingIgnoreCase(search, pageable);
+        if (query.hasSearch()) {
+            result = customerRepository.findByNameContainingIgnoreCase(query.search(), pageable);
         } else {
             result = customerRepository.findAll(pageable);
         }
@@ -120,15 +129,16 @@ public class CustomerService {
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#id"),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, allEntries = true) // Evict by slug if slug changes
     })
     public void delete(Long id) {
         Customer entity = customerRepository.findById(id)
                 .orElseThrow(() -> CustomerException.notFound(id));
+        CustomerResponse before = customerMapper.toResponse(entity);
         entity.delete();
         customerRepository.save(entity);
+        listCacheInvalidator.changed(CacheNames.CUSTOMER_LIST, before, null);
     }
 
     // ==================== BUSINESS LOGIC METHODS ====================
@@ -174,17 +184,18 @@ public class CustomerService {
      */
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.CUSTOMER_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_ID, key = "#customerId"),
         @CacheEvict(cacheNames = CacheNames.CUSTOMER_BY_SLUG, allEntries = true)
     })
     public void updateContactInfo(Long customerId, String contactInfo) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> CustomerException.notFound(customerId));
+        CustomerResponse before = customerMapper.toResponse(customer);
         
         String oldContactInfo = customer.getContactInfo();
         customer.setContactInfo(contactInfo);
         customerRepository.save(customer);
+        listCacheInvalidator.changed(CacheNames.CUSTOMER_LIST, before, customerMapper.toResponse(customer));
         
         log.info("Updated contact info for customer {} (ID: {}) from '{}' to '{}'", 
                 customer.getName(), customerId, oldContactInfo, contactInfo);
@@ -1,6 +1,7 @@
 package com.backend.backend.service;
 
 import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.order.OrderCreateRequest;
 import com.backend.backend.dto.order.OrderResponse;
@@ -44,12 +45,14 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final StockEntryRepository stockEntryRepository;
     private final OrderMapper orderMapper;
+    private final NegativeCache negativeCache;
 
     @Transactional
     @Caching(evict = {
         @CacheEvict(cacheNames = CacheNames.ORDER_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.ORDER_BY_ID, key = "#result.id", condition = "#result != null"),
-        @CacheEvict(cacheNames = CacheNames.ORDER_BY_CUSTOMER, key = "#request.customerId", condition = "#request.customerId != null")
+        @CacheEvict(cacheNames = CacheNames.ORDER_BY_CUSTOMER, key = "#request.customerId", condition = "#request.customerId != null"),
+        @CacheEvict(cacheNames = CacheNames.ORDER_NOT_FOUND, key = "#result.id", condition = "#result != null")
     })
     public OrderResponse create(OrderCreateRequest request) {
         // Validate customer exists
@@ -135,10 +138,13 @@ public class OrderService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.ORDER_BY_ID, key = "#id")
+    @Cacheable(cacheNames = CacheNames.ORDER_BY_ID, key = "#id", sync = true)
     public OrderResponse getById(Long id) {
         Order entity = orderRepository.findById(id)
-                .orElseThrow(() -> OrderException.notFound(id));
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.ORDER_NOT_FOUND, id);
+                    return OrderException.notFound(id);
+                });
         return orderMapper.toResponse(entity);
     }
 
@@ -152,7 +158,8 @@ public class OrderService {
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = CacheNames.ORDER_LIST,
-        key = "T(java.util.Objects).hash(#page,#size,#sort)"
+        key = "T(java.util.Objects).hash(#page,#size,#sort)",
+        sync = true
     )
     public PageResponse<OrderResponse> list(int page, int size, String sort) {
         Sort s = (sort == null || sort.isBlank()) ? Sort.by("orderDate").descending() : Sort.by(sort);
@@ -163,7 +170,7 @@ public class OrderService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.ORDER_BY_CUSTOMER, key = "#customerId")
+    @Cacheable(cacheNames = CacheNames.ORDER_BY_CUSTOMER, key = "#customerId", sync = true)
     public List<OrderResponse> findByCustomerId(Long customerId) {
         if (!customerRepository.existsById(customerId)) {
             throw CustomerException.notFound(customerId);
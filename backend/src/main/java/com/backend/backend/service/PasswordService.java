@@ -1,15 +1,21 @@
 package com.backend.backend.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+/**
+ * Hashes and verifies passwords through the shared {@link PasswordEncoder}, which runs them on the
+ * bounded password hashing executor; both may throw
+ * {@link com.backend.backend.security.PasswordHashingBusyException} under load.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class PasswordService {
 
-    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
 
     public String hashPassword(String plainPassword) {
         if (plainPassword == null || plainPassword.trim().isEmpty()) {
@@ -1,6 +1,10 @@
 package com.backend.backend.service;
 
 import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.persistence.NaturalIdLookup;
+import com.backend.backend.infrastructure.cache.list.ListCacheInvalidator;
+import com.backend.backend.infrastructure.cache.list.ListQueryKey;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.product.ProductCreateRequest;
 import com.backend.backend.dto.product.ProductResponse;
@@ -40,29 +44,36 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final NegativeCache negativeCache;
+    private final NaturalIdLookup naturalIdLookup;
+    private final ListCacheInvalidator listCacheInvalidator;
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID,   key = "#result.id", condition = "#result != null"),
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#result.slug", condition = "#result != null")
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#result.slug", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_NOT_FOUND, key = "#result.id", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_NOT_FOUND, key = "#result.slug", condition = "#result != null")
     })
     public ProductResponse create(ProductCreateRequest request) {
         Product entity = productMapper.toEntity(request);
         entity.setSlug(generateUniqueSlug(request.getName()));
         Product saved = productRepository.save(entity);
-        return productMapper.toResponse(saved);
+        ProductResponse response = productMapper.toResponse(saved);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, null, response);
+        return response;
     }
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID,   key = "#id"),
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#result.slug", condition = "#result != null")
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#result.slug", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_NOT_FOUND, key = "#result.slug", condition = "#result != null")
     })
     public ProductResponse update(Long id, ProductUpdateRequest request) {
         Product entity = productRepository.findById(id)
                 .orElseThrow(() -> ProductException.notFound(id));
+        ProductResponse before = productMapper.toResponse(entity);
         productMapper.updateEntity(entity, request); // partial update
         
         // Update slug if name is being updated
@@ -71,22 +82,30 @@ public class ProductService {
         }
         
         Product saved = productRepository.save(entity);
-        return productMapper.toResponse(saved);
+        ProductResponse response = productMapper.toResponse(saved);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, response);
+        return response;
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#id")
+    @Cacheable(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#id", sync = true)
     public ProductResponse getById(Long id) {
         Product entity = productRepository.findById(id)
-                .orElseThrow(() -> ProductException.notFound(id));
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.PRODUCT_NOT_FOUND, id);
+                    return ProductException.notFound(id);
+                });
         return productMapper.toResponse(entity);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#slug")
+    @Cacheable(cacheNames = CacheNames.PRODUCT_BY_SLUG, key = "#slug", sync = true)
     public ProductResponse getBySlug(String slug) {
-        Product entity = productRepository.findBySlug(slug)
-                .orElseThrow(() -> ProductException.notFound(slug));
+        Product entity = naturalIdLookup.find(Product.class, slug)
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.PRODUCT_NOT_FOUND, slug);
+                    return ProductException.notFound(slug);
+                });
         return productMapper.toResponse(entity);
     }
 
@@ -100,27 +119,17 @@ public class ProductService {
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = CacheNames.PRODUCT_LIST,
-        key = "T(java.util.Objects).hash(#page,#size,#sort,#search)"
+        key = "T(com.backend.backend.infrastructure.cache.list.ListQueryKey).of(#page,#size,#sort,#search)",
+        sync = true
     )
     public PageResponse<ProductResponse> list(int page, int size, String sort, String search) {
-        Sort s = (sort == null || sort.isBlank())
-                ? Sort.by("id").descending()
-                : Sort.by(sort.split(",")[0])
-                        .ascending();
-
-        // Xử lý sort direction nếu có
-        if (sort != null && !sort.isBlank() && sort.contains(",")) {
-            String[] sortParts = sort.split(",");
-            if (sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1])) {
-                s = Sort.by(sortParts[0]).descending();
-            }
-        }
-
-        Pageable pageable = PageRequest.of(page, size, s);
+        // Query from the normalized key so the cached page always matches its key
+        ListQueryKey query = ListQueryKey.of(page, size, sort, search);
+        Pageable pageable = query.toPageable();
 
         Page<Product> result;
-        if (search != null && !search.isBlank()) {
-            result = productRepository.findByNameContainingIgnoreCase(search, pageable);
+        if (query.hasSearch()) {
+            result = productRepository.findByNameContainingIgnoreCase(query.search(), pageable);
         } else {
             result = productRepository.findAll(pageable);
         }
@@ -130,15 +139,16 @@ public class ProductService {
 
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID,   key = "#id"),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
     })
     public void delete(Long id) {
         Product entity = productRepository.findById(id)
                 .orElseThrow(() -> ProductException.notFound(id));
+        ProductResponse before = productMapper.toResponse(entity);
         entity.delete();
         productRepository.save(entity);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, null);
     }
 
     // ==================== BUSINESS LOGIC METHODS ====================
@@ -160,7 +170,8 @@ public class ProductService {
     @Caching(evict = {
         @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID,   allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.PRODUCT_NOT_FOUND, allEntries = true)
     })
     public List<ProductResponse> importFromCsv(MultipartFile file) {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
@@ -254,13 +265,13 @@ public class ProductService {
      */
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#productId"),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
     })
     public void reserveStock(Long productId, Integer quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> ProductException.notFound(productId));
+        ProductResponse before = productMapper.toResponse(product);
         
         if (product.getQuantityInStock() < quantity) {
             throw ProductException.insufficientStock(product.getName(), quantity, product.getQuantityInStock());
@@ -268,6 +279,7 @@ public class ProductService {
         
         product.setQuantityInStock(product.getQuantityInStock() - quantity);
         productRepository.save(product);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, productMapper.toResponse(product));
         log.info("Reserved {} units of product {} (ID: {})", quantity, product.getName(), productId);
     }
     
@@ -276,16 +288,17 @@ public class ProductService {
      */
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#productId"),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
     })
     public void releaseStock(Long productId, Integer quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> ProductException.notFound(productId));
+        ProductResponse before = productMapper.toResponse(product);
         
         product.setQuantityInStock(product.getQuantityInStock() + quantity);
         productRepository.save(product);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, productMapper.toResponse(product));
         log.info("Released {} units of product {} (ID: {})", quantity, product.getName(), productId);
     }
     
@@ -294,16 +307,17 @@ public class ProductService {
      */
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#productId"),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
     })
     public void addStock(Long productId, Integer quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> ProductException.notFound(productId));
+        ProductResponse before = productMapper.toResponse(product);
         
         product.setQuantityInStock(product.getQuantityInStock() + quantity);
         productRepository.save(product);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, productMapper.toResponse(product));
         log.info("Added {} units to product {} (ID: {})", quantity, product.getName(), productId);
     }
     
@@ -312,17 +326,18 @@ public class ProductService {
      */
     @Transactional
     @Caching(evict = {
-        @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_ID, key = "#productId"),
         @CacheEvict(cacheNames = CacheNames.PRODUCT_BY_SLUG, allEntries = true)
     })
     public void updatePrice(Long productId, BigDecimal newPrice) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> ProductException.notFound(productId));
+        ProductResponse before = productMapper.toResponse(product);
         
         BigDecimal oldPrice = product.getPrice();
         product.setPrice(newPrice);
         productRepository.save(product);
+        listCacheInvalidator.changed(CacheNames.PRODUCT_LIST, before, productMapper.toResponse(product));
         log.info("Updated price for product {} (ID: {}) from {} to {}", 
                 product.getName(), productId, oldPrice, newPrice);
     }
@@ -1,6 +1,7 @@
 package com.backend.backend.service;
 
 import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import com.backend.backend.dto.common.PageResponse;
 import com.backend.backend.dto.supplier.SupplierCreateRequest;
 import com.backend.backend.dto.supplier.SupplierResponse;
@@ -29,11 +30,13 @@ public class SupplierService {
 
     private final SupplierRepository supplierRepository;
     private final SupplierMapper supplierMapper;
+    private final NegativeCache negativeCache;
 
     @Transactional
     @Caching(evict = {
         @CacheEvict(cacheNames = CacheNames.SUPPLIER_LIST, allEntries = true),
-        @CacheEvict(cacheNames = CacheNames.SUPPLIER_BY_ID, key = "#result.id", condition = "#result != null")
+        @CacheEvict(cacheNames = CacheNames.SUPPLIER_BY_ID, key = "#result.id", condition = "#result != null"),
+        @CacheEvict(cacheNames = CacheNames.SUPPLIER_NOT_FOUND, key = "#result.id", condition = "#result != null")
     })
     public SupplierResponse create(SupplierCreateRequest request) {
         Supplier entity = supplierMapper.toEntity(request);
@@ -55,10 +58,13 @@ public class SupplierService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.SUPPLIER_BY_ID, key = "#id")
+    @Cacheable(cacheNames = CacheNames.SUPPLIER_BY_ID, key = "#id", sync = true)
     public SupplierResponse getById(Long id) {
         Supplier entity = supplierRepository.findById(id)
-                .orElseThrow(() -> SupplierException.notFound(id));
+                .orElseThrow(() -> {
+                    negativeCache.markMissing(CacheNames.SUPPLIER_NOT_FOUND, id);
+                    return SupplierException.notFound(id);
+                });
         return supplierMapper.toResponse(entity);
     }
 
@@ -72,7 +78,8 @@ public class SupplierService {
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = CacheNames.SUPPLIER_LIST,
-        key = "T(java.util.Objects).hash(#page,#size,#sort)"
+        key = "T(java.util.Objects).hash(#page,#size,#sort)",
+        sync = true
     )
     public PageResponse<SupplierResponse> list(int page, int size, String sort) {
         Sort s = (sort == null || sort.isBlank()) ? Sort.by("id").descending() : Sort.by(sort);
@@ -1,5 +1,6 @@
 package com.backend.backend.service;
 
+import com.backend.backend.config.CacheNames;
 import com.backend.backend.dto.user.UserCreateRequest;
 import com.backend.backend.dto.user.UserResponse;
 import com.backend.backend.dto.user.UserUpdateRequest;
@@ -12,8 +13,8 @@ import com.backend.backend.repository.UserRepository;
 import com.backend.backend.util.PageMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +28,6 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
     private final PasswordService passwordService;
 
     @Transactional
@@ -57,6 +57,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#id")
     public UserResponse update(Long id, UserUpdateRequest request) {
         User entity = userRepository.findById(id)
                 .orElseThrow(() -> UserException.notFound(id));
@@ -76,11 +77,27 @@ public class UserService {
         }
 
         // Encrypt password if provided
+        boolean credentialsChanged = false;
+        String newPasswordHash = null;
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
-            request.setPassword(passwordEncoder.encode(request.getPassword()));
+            newPasswordHash = passwordService.hashPassword(request.getPassword());
+            credentialsChanged = true;
+        }
+        if (request.getUsername() != null && !request.getUsername().equals(entity.getUsername())) {
+            credentialsChanged = true;
+        }
+        if (request.getRole() != null && !request.getRole().equalsIgnoreCase(entity.getRole().name())) {
+            credentialsChanged = true;
         }
 
         userMapper.updateEntity(entity, request); // partial update
+        if (newPasswordHash != null) {
+            entity.setPasswordHash(newPasswordHash);
+        }
+        if (credentialsChanged) {
+            // Token cũ mang username/mật khẩu cũ -> thu hồi
+            entity.revokeTokens();
+        }
         User saved = userRepository.save(entity);
         return userMapper.toResponse(saved);
     }
@@ -109,10 +126,12 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#id")
     public void delete(Long id) {
         User entity = userRepository.findById(id)
                 .orElseThrow(() -> UserException.notFound(id));
         entity.delete();
+        entity.revokeTokens();
         userRepository.save(entity);
     }
 
@@ -146,12 +165,13 @@ public class UserService {
             return false;
         }
         
-        boolean isValid = passwordService.verifyPassword(password, user.getPassword());
+        boolean isValid = passwordService.verifyPassword(password, user.getPasswordHash());
         log.debug("Authentication result for {}: {}", username, isValid);
         return isValid;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
     public UserResponse changePassword(Long userId, String currentPassword, String newPassword) {
         log.info("Changing password for user ID: {}", userId);
         
@@ -159,7 +179,7 @@ public class UserService {
                 .orElseThrow(() -> UserException.notFound(userId));
         
         // Verify current password
-        if (!passwordService.verifyPassword(currentPassword, user.getPassword())) {
+        if (!passwordService.verifyPassword(currentPassword, user.getPasswordHash())) {
             throw new IllegalArgumentException("Mật khẩu hiện tại không đúng");
         }
         
@@ -169,7 +189,8 @@ public class UserService {
         }
         
         // Update password
-        user.setPassword(passwordService.hashPassword(newPassword));
+        user.setPasswordHash(passwordService.hashPassword(newPassword));
+        user.revokeTokens();
         User saved = userRepository.save(user);
         
         log.info("Password changed successfully for user ID: {}", userId);
@@ -177,6 +198,7 @@ public class UserService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
     public UserResponse resetPassword(Long userId) {
         log.info("Resetting password for user ID: {}", userId);
         
@@ -185,7 +207,8 @@ public class UserService {
         
         // Generate new secure password
         String newPassword = passwordService.generateSecurePassword();
-        user.setPassword(passwordService.hashPassword(newPassword));
+        user.setPasswordHash(passwordService.hashPassword(newPassword));
+        user.revokeTokens();
         
         User saved = userRepository.save(user);
         
@@ -194,6 +217,7 @@ public class UserService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
     public UserResponse activateUser(Long userId) {
         log.info("Activating user ID: {}", userId);
         
@@ -208,6 +232,7 @@ public class UserService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
     public UserResponse deactivateUser(Long userId) {
         log.info("Deactivating user ID: {}", userId);
         
@@ -215,6 +240,7 @@ public class UserService {
                 .orElseThrow(() -> UserException.notFound(userId));
         
         user.deactivate();
+        user.revokeTokens();
         User saved = userRepository.save(user);
         
         log.info("User deactivated successfully: {}", userId);
@@ -222,19 +248,55 @@ public class UserService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
     public UserResponse changeRole(Long userId, Role newRole) {
         log.info("Changing role for user ID: {} to {}", userId, newRole);
         
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserException.notFound(userId));
         
-        user.setRole(newRole);
+        if (user.getRole() != newRole) {
+            user.setRole(newRole);
+            user.revokeTokens();
+        }
         User saved = userRepository.save(user);
         
         log.info("Role changed successfully for user ID: {} to {}", userId, newRole);
         return userMapper.toResponse(saved);
     }
     
+    /**
+     * Replaces a hash made with an outdated algorithm or cost after a successful login. Skipped if the
+     * password was changed in the meantime.
+     *
+     * @return whether the hash was replaced
+     */
+    @Transactional
+    public boolean upgradePasswordHash(String username, String currentHash, String upgradedHash) {
+        return userRepository.findByUsername(username)
+                .filter(user -> user.getPasswordHash().equals(currentHash))
+                .map(user -> {
+                    user.setPasswordHash(upgradedHash);
+                    userRepository.save(user);
+                    log.info("Upgraded password hash of user: {}", username);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Invalidates every token issued to the user so far (logout on all devices).
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SECURITY_STATE, key = "#userId")
+    public void revokeAllTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> UserException.notFound(userId));
+        user.revokeTokens();
+        userRepository.save(user);
+        log.info("Revoked all tokens of user ID: {}", userId);
+    }
+    
     @Transactional(readOnly = true)
     public List<UserResponse> findByRole(Role role) {
         log.debug("Finding users by role: {}", role);
@@ -0,0 +1,11 @@
+-- Migration V10: Danh sách token (jti) đã bị thu hồi trước khi hết hạn (logout, token bị lộ)
+-- Dòng chỉ cần giữ tới expires_at của token; sau đó token tự hết hiệu lực và dòng được dọn đi.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NULL,
+    expires_at TIMESTAMP(3) NOT NULL,
+    revoked_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_revoked_tokens_expires_at (expires_at),
+    INDEX idx_revoked_tokens_revoked_at (revoked_at)
+);
@@ -0,0 +1,10 @@
+-- Migration V11: Quota rate limit dùng chung giữa các node (RATE_LIMIT_MODE=distributed)
+-- Mỗi dòng là số token đã cấp (lease) cho một client + tier trong cửa sổ hiện tại.
+-- window_start là epoch millis đầu cửa sổ; sang cửa sổ mới thì used được đặt lại.
+
+CREATE TABLE IF NOT EXISTS rate_limit_quotas (
+    bucket_key VARCHAR(100) PRIMARY KEY,
+    window_start BIGINT NOT NULL,
+    used BIGINT NOT NULL,
+    INDEX idx_rate_limit_quotas_window_start (window_start)
+);
@@ -0,0 +1,15 @@
+-- Migration V12: Idempotency-Key dùng chung giữa các node (app.idempotency.store=jdbc)
+-- idem_key là SHA-256 của (user, method + route, Idempotency-Key); fingerprint là SHA-256 của request.
+-- status_code NULL nghĩa là request gốc đang chạy; locked_until giới hạn thời gian giữ khóa nếu node chết.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key CHAR(64) PRIMARY KEY,
+    fingerprint CHAR(64) NOT NULL,
+    status_code SMALLINT NULL,
+    content_type VARCHAR(255) NULL,
+    location VARCHAR(2048) NULL,
+    body MEDIUMBLOB NULL,
+    locked_until TIMESTAMP(3) NOT NULL,
+    expires_at TIMESTAMP(3) NOT NULL,
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+);
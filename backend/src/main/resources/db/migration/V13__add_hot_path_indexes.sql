@@ -0,0 +1,30 @@
+-- Migration V13: Index cho các query dẫn xuất trong OrderRepository, ProductRepository, StockEntryRepository
+-- Mọi entity có @SQLRestriction("deleted_at IS NULL"), nên mỗi query đều kèm điều kiện deleted_at IS NULL:
+--   - lọc theo khoảng (BETWEEN, <): (deleted_at, cột khoảng) - deleted_at IS NULL là điều kiện bằng, sau đó range
+--   - lọc theo khóa ngoại / giá trị bằng: (cột bằng, deleted_at); index này thay luôn index tự tạo của foreign key
+-- findByNameContainingIgnoreCase (LIKE '%x%') không dùng được B-tree, vẫn quét bảng.
+-- ALGORITHM=INPLACE, LOCK=NONE: tạo index online, không chặn ghi.
+
+-- Orders: findByCustomerId, findByOrderDateBetween, findByTotalAmountBetween
+ALTER TABLE orders
+  ADD INDEX idx_orders_customer_deleted (customer_id, deleted_at),
+  ADD INDEX idx_orders_deleted_order_date (deleted_at, order_date),
+  ADD INDEX idx_orders_deleted_total_amount (deleted_at, total_amount),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Products: findByPriceBetween, findByQuantityInStockLessThan, count(ByQuantityInStock|ByQuantityInStockLessThan),
+-- findByName / existsByName (name là TEXT: index 191 ký tự đầu)
+ALTER TABLE products
+  ADD INDEX idx_products_deleted_price (deleted_at, price),
+  ADD INDEX idx_products_deleted_quantity (deleted_at, quantity_in_stock),
+  ADD INDEX idx_products_name_deleted (name(191), deleted_at),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Stock entries: findByProductId, findByProductIdAndSupplierId, findBySupplierId,
+-- findByEntryDateBetween, findByQuantityBetween
+ALTER TABLE stock_entries
+  ADD INDEX idx_stock_entries_product_supplier_deleted (product_id, supplier_id, deleted_at),
+  ADD INDEX idx_stock_entries_supplier_deleted (supplier_id, deleted_at),
+  ADD INDEX idx_stock_entries_deleted_entry_date (deleted_at, entry_date),
+  ADD INDEX idx_stock_entries_deleted_quantity (deleted_at, quantity),
+  ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,28 @@
+-- Migration V14: Bảng *_archive cho job lưu trữ các dòng đã soft delete quá hạn (ArchivalJob)
+-- CREATE TABLE ... LIKE giữ nguyên cột, kiểu và index nhưng không copy foreign key:
+-- bảng archive chỉ là nơi cất dữ liệu, cha/con có thể nằm ở bảng live hoặc archive.
+-- users không được lưu trữ (tài khoản và token gắn với lịch sử đăng nhập).
+
+CREATE TABLE IF NOT EXISTS order_items_archive LIKE order_items;
+CREATE TABLE IF NOT EXISTS stock_entries_archive LIKE stock_entries;
+CREATE TABLE IF NOT EXISTS orders_archive LIKE orders;
+CREATE TABLE IF NOT EXISTS products_archive LIKE products;
+CREATE TABLE IF NOT EXISTS customers_archive LIKE customers;
+CREATE TABLE IF NOT EXISTS suppliers_archive LIKE suppliers;
+
+-- Slug chỉ unique giữa các dòng live: một slug đã lưu trữ có thể được dùng lại rồi lại bị xóa
+ALTER TABLE products_archive DROP INDEX slug;
+ALTER TABLE customers_archive DROP INDEX slug;
+
+ALTER TABLE order_items_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE stock_entries_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE orders_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE products_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE customers_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE suppliers_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Job chọn dòng theo deleted_at < cutoff: cần index bắt đầu bằng deleted_at
+-- (products, orders, stock_entries đã có từ V13). Tạo online, không chặn ghi.
+ALTER TABLE order_items ADD INDEX idx_order_items_deleted_at (deleted_at), ALGORITHM=INPLACE, LOCK=NONE;
+ALTER TABLE customers ADD INDEX idx_customers_deleted_at (deleted_at), ALGORITHM=INPLACE, LOCK=NONE;
+ALTER TABLE suppliers ADD INDEX idx_suppliers_deleted_at (deleted_at), ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,10 @@
+-- Migration V15: Cột version (optimistic lock) cho products
+-- Tồn kho được kiểm tra trên bản Product có thể lấy từ second-level cache của node khác đã cũ:
+-- UPDATE ... WHERE version = ? thất bại thay vì ghi đè tồn kho, tránh bán vượt số lượng.
+-- products_archive cần cùng cột vì SoftDeleteArchiver copy toàn bộ cột của bảng live.
+
+ALTER TABLE products
+  ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE products_archive
+  ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
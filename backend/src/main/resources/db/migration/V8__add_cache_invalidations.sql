@@ -0,0 +1,12 @@
+-- Migration V8: Bảng phát tán cache eviction giữa các node backend
+-- Mỗi node ghi một dòng khi evict, các node khác poll theo id tăng dần và evict cục bộ.
+-- cache_key NULL nghĩa là xoá toàn bộ cache.
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cache_name VARCHAR(100) NOT NULL,
+    cache_key VARCHAR(512) NULL,
+    origin_node VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_cache_invalidations_created_at (created_at)
+);
@@ -0,0 +1,5 @@
+-- Migration V9: Phiên bản token của user
+-- Tăng token_version khi khóa tài khoản, đổi quyền hoặc đổi mật khẩu: mọi JWT phát hành trước đó hết hiệu lực.
+
+ALTER TABLE users
+  ADD COLUMN token_version INT NOT NULL DEFAULT 0;
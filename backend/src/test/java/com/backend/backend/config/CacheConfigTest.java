@@ -0,0 +1,137 @@
+package com.backend.backend.config;
+
+import com.backend.backend.infrastructure.cache.invalidation.NoOpCacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.refresh.CacheRefreshSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheConfig Tests")
+class CacheConfigTest {
+
+    private final CacheRefreshSupport refreshSupport = new CacheRefreshSupport(1, 1, 10,
+            TransactionOperations.withoutTransaction(), new SimpleMeterRegistry())
+            .register(CacheNames.PRODUCT_BY_ID, id -> "reloaded-" + id);
+
+    @Test
+    @DisplayName("Should fall back to global defaults for caches without overrides")
+    void specFor_usesDefaults() {
+        CacheProps props = new CacheProps();
+        props.setTtlSeconds(60);
+        props.setMaximumSize(500);
+
+        CacheProps.Spec spec = props.specFor(CacheNames.ORDER_BY_ID);
+
+        assertThat(spec.getTtl()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(spec.getMaximumSize()).isEqualTo(500L);
+        assertThat(spec.getMaxWeight()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should apply per-cache ttl and byte budget")
+    void specFor_appliesOverrides() {
+        CacheProps props = new CacheProps();
+        CacheProps.Spec override = new CacheProps.Spec();
+        override.setTtl(Duration.ofMinutes(2));
+        override.setMaxWeight(DataSize.ofMegabytes(50));
+        props.getCaches().put(CacheNames.PRODUCT_LIST, override);
+
+        CacheProps.Spec spec = props.specFor(CacheNames.PRODUCT_LIST);
+
+        assertThat(spec.getTtl()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(spec.getMaxWeight()).isEqualTo(DataSize.ofMegabytes(50));
+    }
+
+    @Test
+    @DisplayName("Should create every known cache")
+    void cacheManager_createsAllCaches() {
+        CacheManager manager = new CacheConfig().cacheManager(new CacheProps(), new ObjectMapper(), new NoOpCacheInvalidationBus("test"), refreshSupport);
+        ((org.springframework.cache.support.SimpleCacheManager) manager).afterPropertiesSet();
+
+        assertThat(manager.getCacheNames()).containsExactlyInAnyOrderElementsOf(CacheConfig.CACHE_NAMES);
+    }
+
+    @Test
+    @DisplayName("Should defer evictions made in a transaction until it commits")
+    void cacheManager_defersEvictionUntilCommit() {
+        CacheManager manager = new CacheConfig().cacheManager(new CacheProps(), new ObjectMapper(), new NoOpCacheInvalidationBus("test"), refreshSupport);
+        ((org.springframework.cache.support.SimpleCacheManager) manager).afterPropertiesSet();
+        Cache cache = manager.getCache(CacheNames.CUSTOMER_BY_ID);
+        cache.put(1L, "cached");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            assertThat(cache.get(1L)).isNotNull();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject overrides for unknown cache names")
+    void cacheManager_rejectsUnknownNames() {
+        CacheProps props = new CacheProps();
+        props.getCaches().put("product-by-idd", new CacheProps.Spec());
+
+        assertThatThrownBy(() -> new CacheConfig().cacheManager(props, new ObjectMapper(), new NoOpCacheInvalidationBus("test"), refreshSupport))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("product-by-idd");
+    }
+
+    @Test
+    @DisplayName("Should reject refresh-after on caches without a reloader")
+    void build_rejectsRefreshWithoutReloader() {
+        CacheProps props = new CacheProps();
+        CacheProps.Spec override = new CacheProps.Spec();
+        override.setRefreshAfter(Duration.ofSeconds(60));
+        props.getCaches().put(CacheNames.PRODUCT_LIST, override);
+
+        assertThatThrownBy(() -> new CacheConfig().cacheManager(props, new ObjectMapper(), new NoOpCacheInvalidationBus("test"), refreshSupport))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(CacheNames.PRODUCT_LIST);
+    }
+
+    @Test
+    @DisplayName("Should build a loading cache when refresh-after is shorter than ttl")
+    void build_enablesRefreshAhead() {
+        CacheProps.Spec spec = new CacheProps.Spec();
+        spec.setTtl(Duration.ofMinutes(5));
+        spec.setMaximumSize(100L);
+        spec.setRefreshAfter(Duration.ofMinutes(4));
+
+        var cache = CacheConfig.build(CacheNames.PRODUCT_BY_ID, spec, null, refreshSupport);
+
+        assertThat(cache).isInstanceOf(com.github.benmanes.caffeine.cache.LoadingCache.class);
+        assertThat(cache.policy().refreshAfterWrite()).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should disable refresh-ahead when refresh-after is not shorter than ttl")
+    void build_ignoresRefreshLongerThanTtl() {
+        CacheProps.Spec spec = new CacheProps.Spec();
+        spec.setTtl(Duration.ofMinutes(1));
+        spec.setMaximumSize(100L);
+        spec.setRefreshAfter(Duration.ofMinutes(4));
+
+        var cache = CacheConfig.build(CacheNames.PRODUCT_BY_ID, spec, null, refreshSupport);
+
+        assertThat(cache.policy().refreshAfterWrite()).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.backend.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingConfig Tests")
+class PasswordHashingConfigTest {
+
+    @Test
+    @DisplayName("Hashes without an {id} prefix should still match and be flagged for upgrade")
+    void legacyHash_matchesAndNeedsUpgrade() {
+        PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder(props("bcrypt", 4));
+        String legacy = new BCryptPasswordEncoder(4).encode("Secret#123");
+
+        assertThat(encoder.matches("Secret#123", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A hash made with the current settings should not need an upgrade")
+    void currentHash_doesNotNeedUpgrade() {
+        PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder(props("bcrypt", 4));
+        String hash = encoder.encode("Secret#123");
+
+        assertThat(hash).startsWith("{bcrypt}");
+        assertThat(encoder.matches("Secret#123", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Raising the bcrypt cost or switching algorithm should flag older hashes for upgrade")
+    void changedSettings_flagOlderHashes() {
+        String weak = PasswordHashingConfig.delegatingEncoder(props("bcrypt", 4)).encode("Secret#123");
+
+        PasswordEncoder stronger = PasswordHashingConfig.delegatingEncoder(props("bcrypt", 5));
+        PasswordEncoder pbkdf2 = PasswordHashingConfig.delegatingEncoder(props("pbkdf2", 4));
+
+        assertThat(stronger.matches("Secret#123", weak)).isTrue();
+        assertThat(stronger.upgradeEncoding(weak)).isTrue();
+        assertThat(pbkdf2.matches("Secret#123", weak)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(weak)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail fast on an unknown algorithm")
+    void unknownAlgorithm_fails() {
+        assertThatThrownBy(() -> PasswordHashingConfig.delegatingEncoder(props("md5", 10)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("md5");
+    }
+
+    private static PasswordHashingProps props(String algorithm, int bcryptStrength) {
+        PasswordHashingProps props = new PasswordHashingProps();
+        props.setAlgorithm(algorithm);
+        props.setBcryptStrength(bcryptStrength);
+        return props;
+    }
+}
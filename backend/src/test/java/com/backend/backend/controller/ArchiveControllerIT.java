@@ -0,0 +1,38 @@
+package com.backend.backend.controller;
+
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ArchiveControllerIT extends IntegrationTestBase {
+
+    @Autowired private MockMvc mvc;
+
+    @Test
+    void restore_withoutAuthentication_shouldBeRejected() throws Exception {
+        mvc.perform(post("/api/v1/admin/archive/orders/1/restore"))
+           .andExpect(status().isUnauthorized());
+        mvc.perform(post("/api/v1/admin/archive/run"))
+           .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void restore_asNonAdmin_shouldBeForbidden() throws Exception {
+        mvc.perform(post("/api/v1/admin/archive/orders/1/restore"))
+           .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void restore_asAdmin_shouldReachTheArchiver() throws Exception {
+        // Không có dòng này trong orders_archive
+        mvc.perform(post("/api/v1/admin/archive/orders/999999/restore"))
+           .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.backend.controller;
+
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.service.CustomerService;
+import com.backend.backend.shared.domain.exception.CustomerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerController Unit Tests")
+class CustomerControllerTest {
+
+    @Mock private CustomerService customerService;
+    @Mock private NegativeCache negativeCache;
+
+    @InjectMocks
+    private CustomerController customerController;
+
+    @Test
+    @DisplayName("Should not call the service for a slug recently found missing")
+    void getBySlug_whenKnownMissing_shouldNotCallService() {
+        // arrange
+        given(negativeCache.isKnownMissing(CacheNames.CUSTOMER_NOT_FOUND, "ghost")).willReturn(true);
+
+        // act & assert
+        assertThatThrownBy(() -> customerController.getBySlug("ghost"))
+                .isInstanceOf(CustomerException.class);
+
+        verifyNoInteractions(customerService);
+    }
+}
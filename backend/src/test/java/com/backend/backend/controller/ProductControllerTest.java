@@ -0,0 +1,58 @@
+package com.backend.backend.controller;
+
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.web.cache.ResponseBodyCache;
+import com.backend.backend.service.ProductService;
+import com.backend.backend.shared.domain.exception.ProductException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductController Unit Tests")
+class ProductControllerTest {
+
+    @Mock private ProductService productService;
+    @Mock private ResponseBodyCache responseBodyCache;
+    @Mock private NegativeCache negativeCache;
+    @Mock private HttpServletRequest request;
+
+    @InjectMocks
+    private ProductController productController;
+
+    @Test
+    @DisplayName("Should not call the service for a product recently found missing")
+    void getById_whenKnownMissing_shouldNotCallService() {
+        // Arrange
+        given(negativeCache.isKnownMissing(CacheNames.PRODUCT_NOT_FOUND, 999L)).willReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> productController.getById(999L, request))
+                .isInstanceOf(ProductException.class);
+
+        // Không mở transaction, không chạm tới cache của response
+        verifyNoInteractions(productService, responseBodyCache);
+    }
+
+    @Test
+    @DisplayName("Should not call the service for a slug recently found missing")
+    void getBySlug_whenKnownMissing_shouldNotCallService() {
+        // Arrange
+        given(negativeCache.isKnownMissing(CacheNames.PRODUCT_NOT_FOUND, "ghost")).willReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> productController.getBySlug("ghost", request))
+                .isInstanceOf(ProductException.class);
+
+        verifyNoInteractions(productService, responseBodyCache);
+    }
+}
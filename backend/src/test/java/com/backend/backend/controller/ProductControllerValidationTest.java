@@ -2,6 +2,8 @@ package com.backend.backend.controller;
 
 import com.backend.backend.dto.product.ProductCreateRequest;
 import com.backend.backend.dto.product.ProductResponse;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.web.cache.ResponseBodyCache;
 import com.backend.backend.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +40,12 @@ class ProductControllerValidationTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private ResponseBodyCache responseBodyCache;
+
+    @MockitoBean
+    private NegativeCache negativeCache;
+
     private ProductCreateRequest validRequest;
     private ProductResponse mockResponse;
 
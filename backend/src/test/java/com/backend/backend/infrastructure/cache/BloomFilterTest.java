@@ -0,0 +1,50 @@
+package com.backend.backend.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Inserted values should always be reported as present")
+    void mightContain_shouldHaveNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        var values = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("False-positive rate should stay close to the configured rate")
+    void mightContain_shouldRespectFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("Sizing should follow the standard formulas")
+    void create_shouldSizeFilter() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.001);
+
+        // m = -n ln p / (ln 2)^2 ~ 1.44M bits, k = m/n ln 2 ~ 10
+        assertThat(filter.bitSize()).isBetween(1_437_000L, 1_438_000L);
+        assertThat(filter.hashCount()).isEqualTo(10);
+        assertThat(BloomFilter.create(10, 0.5).mightContain("x")).isFalse();
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
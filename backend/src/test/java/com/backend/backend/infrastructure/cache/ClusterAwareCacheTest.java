@@ -0,0 +1,115 @@
+package com.backend.backend.infrastructure.cache;
+
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClusterAwareCache Tests")
+class ClusterAwareCacheTest {
+
+    /** Delivers every message synchronously to every other node, like a bus that has just been polled. */
+    static class InMemoryBus implements CacheInvalidationBus {
+        private final String nodeId;
+        private final List<InMemoryBus> network;
+        private final List<Consumer<CacheInvalidation>> listeners = new ArrayList<>();
+
+        InMemoryBus(String nodeId, List<InMemoryBus> network) {
+            this.nodeId = nodeId;
+            this.network = network;
+            network.add(this);
+        }
+
+        @Override
+        public void publish(String cacheName, String encodedKey) {
+            CacheInvalidation message = new CacheInvalidation(cacheName, encodedKey, nodeId);
+            network.stream()
+                    .filter(node -> !node.nodeId.equals(nodeId))
+                    .forEach(node -> node.listeners.forEach(l -> l.accept(message)));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public String nodeId() {
+            return nodeId;
+        }
+    }
+
+    private ClusterAwareCache nodeA;
+    private ClusterAwareCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        List<InMemoryBus> network = new ArrayList<>();
+        nodeA = node("a", network);
+        nodeB = node("b", network);
+    }
+
+    private static ClusterAwareCache node(String id, List<InMemoryBus> network) {
+        InMemoryBus bus = new InMemoryBus(id, network);
+        ClusterAwareCache cache = new ClusterAwareCache(
+                new CaffeineCache("product-by-id", Caffeine.newBuilder().build()), bus);
+        bus.subscribe(cache::applyRemote);
+        return cache;
+    }
+
+    @Test
+    @DisplayName("Should evict the same key on other nodes")
+    void evictPropagates() {
+        nodeA.put(1L, "v1");
+        nodeB.put(1L, "v1");
+        nodeB.put(2L, "v2");
+
+        nodeA.evict(1L);
+
+        assertThat(nodeA.get(1L)).isNull();
+        assertThat(nodeB.get(1L)).isNull();
+        assertThat(nodeB.get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should clear other nodes on clear")
+    void clearPropagates() {
+        nodeB.put(1L, "v1");
+        nodeB.put(2L, "v2");
+
+        nodeA.clear();
+
+        assertThat(nodeB.get(1L)).isNull();
+        assertThat(nodeB.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should clear other nodes when the key cannot be encoded")
+    void unsupportedKeyClears() {
+        Object compositeKey = List.of(0, 20);
+        nodeB.put(compositeKey, "page");
+        nodeB.put(3L, "v3");
+
+        nodeA.evict(compositeKey);
+
+        assertThat(nodeB.get(compositeKey)).isNull();
+        assertThat(nodeB.get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep puts local")
+    void putIsLocal() {
+        nodeA.put(1L, "v1");
+
+        assertThat(nodeB.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.backend.infrastructure.cache;
+
+import com.backend.backend.dto.common.PageResponse;
+import com.backend.backend.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SerializedSizeWeigher Tests")
+class SerializedSizeWeigherTest {
+
+    private final SerializedSizeWeigher weigher =
+            new SerializedSizeWeigher(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+
+    private static ProductResponse product(long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("Product " + id)
+                .slug("product-" + id)
+                .description("Description of product " + id)
+                .price(new BigDecimal("19.99"))
+                .quantityInStock(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should weigh a page of products proportionally to its item count")
+    void pageWeighsRoughlyItsItems() {
+        List<ProductResponse> items = IntStream.rangeClosed(1, 100).mapToObj(i -> product(i)).toList();
+        PageResponse<ProductResponse> page = PageResponse.<ProductResponse>builder()
+                .items(items).page(0).size(100).totalElements(100).totalPages(1)
+                .build();
+        // Kích thước JSON của từng phần tử trong mảng, không tính overhead của một entry riêng lẻ
+        long itemBytes = items.stream().mapToLong(weigher::estimate).sum();
+
+        int pageWeight = weigher.weigh(1, page);
+
+        assertThat((long) pageWeight).isGreaterThan(itemBytes);
+        assertThat((long) pageWeight).isLessThan(itemBytes + itemBytes / 10);
+    }
+
+    @Test
+    @DisplayName("Should count compact JSON even when the shared mapper pretty-prints")
+    void ignoresIndentation() throws Exception {
+        ProductResponse single = product(1L);
+        long compact = new ObjectMapper().writeValueAsBytes(single).length;
+
+        assertThat(weigher.estimate(single)).isEqualTo(compact);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a fixed weight for values Jackson cannot serialize")
+    void fallsBackForUnserializableValues() {
+        Object notSerializable = new Object();
+
+        assertThat(weigher.estimate(notSerializable)).isEqualTo(SerializedSizeWeigher.FALLBACK_WEIGHT_BYTES);
+    }
+}
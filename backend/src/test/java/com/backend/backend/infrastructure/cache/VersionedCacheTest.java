@@ -0,0 +1,130 @@
+package com.backend.backend.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VersionedCache Tests")
+class VersionedCacheTest {
+
+    private VersionedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VersionedCache(unlockedDelegate(), Duration.ofSeconds(5));
+    }
+
+    /**
+     * Loads without holding a lock, like a Caffeine clear() that skips in-flight loads;
+     * a real Caffeine cache would deadlock on an eviction issued from inside its own loader.
+     */
+    private static Cache unlockedDelegate() {
+        return new ConcurrentMapCache("product-by-slug") {
+            @Override
+            public <T> T get(Object key, Callable<T> valueLoader) {
+                try {
+                    T value = valueLoader.call();
+                    put(key, value);
+                    return value;
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should cache a load that no eviction overtook")
+    void get_shouldCacheLoadedValue() {
+        assertThat(cache.get("iphone", () -> "v1")).isEqualTo("v1");
+
+        assertThat(cache.get("iphone").get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("Should discard a load overtaken by a clear")
+    void get_whenClearedDuringLoad_shouldNotCache() {
+        String value = cache.get("iphone", () -> {
+            // e.g. allEntries eviction committed by another request while we were querying
+            cache.clear();
+            return "old";
+        });
+
+        assertThat(value).isEqualTo("old");
+        assertThat(cache.get("iphone")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should discard a load overtaken by an eviction of its key")
+    void get_whenKeyEvictedDuringLoad_shouldNotCache() {
+        cache.get("samsung", () -> {
+            cache.evict("samsung");
+            return "old";
+        });
+
+        assertThat(cache.get("samsung")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should discard an overtaken load even if it outlasts the stale-write window")
+    void get_whenLoadOutlastsWindow_shouldNotCache() {
+        // Window 0: the eviction marker is gone before the load finishes
+        VersionedCache shortWindow = new VersionedCache(unlockedDelegate(), Duration.ZERO);
+
+        shortWindow.get("samsung", () -> {
+            shortWindow.evict("samsung");
+            return "old";
+        });
+
+        assertThat(shortWindow.get("samsung")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore puts right after an eviction of the key")
+    void put_afterEviction_shouldBeIgnored() {
+        cache.evict("iphone");
+
+        cache.put("iphone", "stale");
+        cache.putIfAbsent("iphone", "stale");
+        cache.put("samsung", "fresh");
+
+        assertThat(cache.get("iphone")).isNull();
+        assertThat(cache.get("samsung").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should not cache loads made inside a read-write transaction")
+    void get_inReadWriteTransaction_shouldNotCache() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(cache.get("iphone", () -> "uncommitted")).isEqualTo("uncommitted");
+
+        assertThat(cache.get("iphone")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should cache loads made inside a read-only transaction")
+    void get_inReadOnlyTransaction_shouldCache() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        cache.get("iphone", () -> "v1");
+
+        assertThat(cache.get("iphone").get()).isEqualTo("v1");
+    }
+}
@@ -0,0 +1,41 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheKeyCodec Tests")
+class CacheKeyCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip the key types used by our caches")
+    void roundTrip() {
+        for (Object key : List.of(42L, -7, "iphone-15", "with:colon")) {
+            assertThat(CacheKeyCodec.decode(CacheKeyCodec.encode(key))).isEqualTo(key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep Long and Integer keys distinct")
+    void typesAreTagged() {
+        assertThat(CacheKeyCodec.encode(1L)).isNotEqualTo(CacheKeyCodec.encode(1));
+    }
+
+    @Test
+    @DisplayName("Should not encode unsupported or oversized keys")
+    void unsupportedKeys() {
+        assertThat(CacheKeyCodec.encode(List.of(1, 2))).isNull();
+        assertThat(CacheKeyCodec.encode("x".repeat(CacheKeyCodec.MAX_ENCODED_LENGTH))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed keys")
+    void malformed() {
+        assertThatThrownBy(() -> CacheKeyCodec.decode("X:1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheKeyCodec.decode("1")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
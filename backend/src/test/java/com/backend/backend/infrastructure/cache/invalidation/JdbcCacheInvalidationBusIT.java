@@ -0,0 +1,85 @@
+package com.backend.backend.infrastructure.cache.invalidation;
+
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JdbcCacheInvalidationBusIT extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcCacheInvalidationBus bus(String nodeId, List<CacheInvalidation> received) {
+        JdbcCacheInvalidationBus bus = new JdbcCacheInvalidationBus(jdbcTemplate, TransactionOperations.withoutTransaction(), nodeId,
+                Duration.ofMillis(500), Duration.ofMinutes(10), Duration.ofSeconds(10));
+        bus.subscribe(received::add);
+        bus.poll(); // position at the current head
+        return bus;
+    }
+
+    @Test
+    void poll_deliversOtherNodesInvalidationsOnly() {
+        List<CacheInvalidation> receivedByA = new ArrayList<>();
+        List<CacheInvalidation> receivedByB = new ArrayList<>();
+        JdbcCacheInvalidationBus a = bus("node-a", receivedByA);
+        JdbcCacheInvalidationBus b = bus("node-b", receivedByB);
+
+        a.publish("product-by-id", "L:1");
+        a.publish("product-list", null);
+        a.poll();
+        b.poll();
+
+        assertThat(receivedByA).isEmpty();
+        assertThat(receivedByB).extracting(CacheInvalidation::cacheName, CacheInvalidation::key)
+                .containsExactly(
+                        tuple("product-by-id", "L:1"),
+                        tuple("product-list", null));
+    }
+
+    @Test
+    void publishAll_writesEveryInvalidationAsThisNode() {
+        List<CacheInvalidation> receivedByA = new ArrayList<>();
+        List<CacheInvalidation> receivedByB = new ArrayList<>();
+        JdbcCacheInvalidationBus a = bus("node-a", receivedByA);
+        JdbcCacheInvalidationBus b = bus("node-b", receivedByB);
+
+        a.publishAll(List.of(
+                new CacheInvalidation("l2:Product", "L:1", "ignored"),
+                new CacheInvalidation("l2-natural-id:Product", null, "ignored")));
+        a.poll();
+        b.poll();
+
+        assertThat(receivedByA).isEmpty();
+        assertThat(receivedByB).extracting(CacheInvalidation::cacheName, CacheInvalidation::key)
+                .containsExactly(
+                        tuple("l2:Product", "L:1"),
+                        tuple("l2-natural-id:Product", null));
+    }
+
+    @Test
+    void poll_picksUpIdsThatBecomeVisibleLate() {
+        List<CacheInvalidation> received = new ArrayList<>();
+        JdbcCacheInvalidationBus b = bus("node-b", received);
+
+        // Simulate a lower id committing after a higher one.
+        Long base = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+        jdbcTemplate.update("INSERT INTO cache_invalidations (id, cache_name, cache_key, origin_node) VALUES (?, 'product-by-id', 'L:2', 'node-a')", base + 2);
+        b.poll();
+        assertThat(b.pendingGaps()).containsExactly(base + 1);
+
+        jdbcTemplate.update("INSERT INTO cache_invalidations (id, cache_name, cache_key, origin_node) VALUES (?, 'product-by-id', 'L:1', 'node-a')", base + 1);
+        b.poll();
+
+        assertThat(b.pendingGaps()).isEmpty();
+        assertThat(received).extracting(CacheInvalidation::key).containsExactly("L:2", "L:1");
+    }
+}
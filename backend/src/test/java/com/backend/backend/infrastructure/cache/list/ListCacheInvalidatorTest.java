@@ -0,0 +1,119 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import com.backend.backend.dto.common.PageResponse;
+import com.backend.backend.dto.product.ProductResponse;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.backend.backend.infrastructure.cache.invalidation.CacheKeyCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ListCacheInvalidator Tests")
+class ListCacheInvalidatorTest {
+
+    private static final String CACHE_NAME = "product-list";
+
+    private final RecordingBus bus = new RecordingBus();
+    private ListCacheInvalidator invalidator;
+    private TaggedListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaggedListCache(new CaffeineCache(CACHE_NAME, Caffeine.newBuilder().build()),
+                ListProperties.of("name", "name", "price", "quantityInStock"));
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache));
+        cacheManager.initializeCaches();
+        invalidator = new ListCacheInvalidator(cacheManager, bus, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("A typical update should fit a bus message and carry only the list properties")
+    void typicalUpdate_shouldFitBusMessage() {
+        ProductResponse before = product(123456L, "Laptop Pro 14 inch (2026) - 32GB RAM / 1TB SSD / Space Gray");
+        ProductResponse after = product(123456L, before.getName());
+        after.setPrice(new BigDecimal("1899.99"));
+        after.setQuantityInStock(41);
+
+        invalidator.changed(CACHE_NAME, before, after);
+
+        assertThat(bus.published).hasSize(1);
+        String key = bus.published.get(0).key();
+        assertThat(key).isNotNull().startsWith(CacheKeyCodec.LIST_CHANGE_PREFIX);
+        assertThat(key.length()).isLessThanOrEqualTo(CacheKeyCodec.MAX_ENCODED_LENGTH);
+        assertThat(key).doesNotContain("description", "slug");
+    }
+
+    @Test
+    @DisplayName("A change from another node should evict only the affected pages")
+    void remoteChange_shouldEvictOnlyAffectedPages() {
+        ProductResponse before = product(5L, "Keyboard");
+        ProductResponse after = product(5L, "Keyboard");
+        after.setPrice(BigDecimal.ONE);
+        invalidator.changed(CACHE_NAME, before, after);
+
+        ListQueryKey byPriceAsc = ListQueryKey.of(0, 2, "price,asc", null);
+        ListQueryKey newest = ListQueryKey.of(0, 2, null, null);
+        cache.put(byPriceAsc, page(product(1L, "Cable"), product(2L, "Mouse")));
+        cache.put(newest, page(product(10L, "Laptop"), product(9L, "Phone")));
+        bus.deliver(bus.published.get(0));
+
+        // Now the cheapest product; its id did not move, so the newest page keeps its items
+        assertThat(cache.get(byPriceAsc)).isNull();
+        assertThat(cache.get(newest)).isNotNull();
+    }
+
+    private static ProductResponse product(Long id, String name) {
+        return ProductResponse.builder()
+                .id(id)
+                .name(name)
+                .slug("product-" + id + "-" + name.toLowerCase().replaceAll("[^a-z0-9]+", "-"))
+                .description("x".repeat(2000))
+                .price(BigDecimal.TEN)
+                .quantityInStock(5)
+                .build();
+    }
+
+    private static PageResponse<ProductResponse> page(ProductResponse... items) {
+        PageResponse<ProductResponse> page = new PageResponse<>();
+        page.setItems(List.of(items));
+        page.setSize(2);
+        return page;
+    }
+
+    private static class RecordingBus implements CacheInvalidationBus {
+        private final List<CacheInvalidation> published = new ArrayList<>();
+        private final List<Consumer<CacheInvalidation>> listeners = new ArrayList<>();
+
+        @Override
+        public void publish(String cacheName, String encodedKey) {
+            published.add(new CacheInvalidation(cacheName, encodedKey, nodeId()));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public String nodeId() {
+            return "this-node";
+        }
+
+        void deliver(CacheInvalidation invalidation) {
+            listeners.forEach(l -> l.accept(invalidation));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ListQueryKey Tests")
+class ListQueryKeyTest {
+
+    @Test
+    @DisplayName("Equivalent requests should map to the same key")
+    void of_shouldNormalizeEquivalentRequests() {
+        ListQueryKey a = ListQueryKey.of(0, 20, "price,desc", "  iPhone ");
+        ListQueryKey b = ListQueryKey.of(0, 20, "price,DESC", "iphone");
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.search()).isEqualTo("iphone");
+        assertThat(a.direction()).isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("Missing sort and blank search should fall back to defaults")
+    void of_shouldApplyDefaults() {
+        ListQueryKey key = ListQueryKey.of(1, 10, null, "   ");
+
+        assertThat(key.sortProperty()).isEqualTo("id");
+        assertThat(key.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(key.search()).isNull();
+        assertThat(key.hasSearch()).isFalse();
+        assertThat(key.toPageable().getSort()).isEqualTo(Sort.by("id").descending());
+        assertThat(key.toPageable().getPageNumber()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sort without direction should be ascending")
+    void of_shouldDefaultToAscending() {
+        assertThat(ListQueryKey.of(0, 10, "name", null).direction()).isEqualTo(Sort.Direction.ASC);
+        assertThat(ListQueryKey.of(0, 10, "name,asc", null)).isEqualTo(ListQueryKey.of(0, 10, "name", null));
+    }
+}
@@ -0,0 +1,124 @@
+package com.backend.backend.infrastructure.cache.list;
+
+import com.backend.backend.dto.common.PageResponse;
+import com.backend.backend.dto.product.ProductResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaggedListCache Tests")
+class TaggedListCacheTest {
+
+    private static final ListProperties PROPERTIES = ListProperties.of("name", "name", "price");
+
+    private TaggedListCache cache;
+
+    // Products sorted by id DESC, 2 per page: page 0 = [10, 9], page 1 = [8, 7], page 2 = [6]
+    private final ListQueryKey page0 = ListQueryKey.of(0, 2, null, null);
+    private final ListQueryKey page1 = ListQueryKey.of(1, 2, null, null);
+    private final ListQueryKey page2 = ListQueryKey.of(2, 2, null, null);
+    private final ListQueryKey phonesPage0 = ListQueryKey.of(0, 2, null, "phone");
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaggedListCache(new CaffeineCache("product-list", Caffeine.newBuilder().build()), PROPERTIES);
+        cache.put(page0, page(product(10L, "Laptop"), product(9L, "Phone X")));
+        cache.put(page1, page(product(8L, "Tablet"), product(7L, "Phone Y")));
+        cache.put(page2, page(product(6L, "Mouse")));
+        cache.put(phonesPage0, page(product(9L, "Phone X"), product(7L, "Phone Y")));
+    }
+
+    @Test
+    @DisplayName("Updating a row should evict pages that show it and pages after it")
+    void update_shouldEvictPagesContainingRow() {
+        ProductResponse before = product(8L, "Tablet");
+        ProductResponse after = product(8L, "Tablet");
+        after.setPrice(BigDecimal.ONE);
+
+        cache.evictAffected(change(before, after));
+
+        assertThat(cache.get(page1)).isNull();
+        assertThat(cache.get(page0)).isNotNull();
+        assertThat(cache.get(page2)).isNotNull();
+        // Not a phone, and its id did not move
+        assertThat(cache.get(phonesPage0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Inserting a newest row should evict every page it shifts")
+    void insert_shouldEvictShiftedPages() {
+        cache.evictAffected(change(null, product(11L, "Keyboard")));
+
+        assertThat(cache.get(page0)).isNull();
+        assertThat(cache.get(page1)).isNull();
+        assertThat(cache.get(page2)).isNull();
+        assertThat(cache.get(phonesPage0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Inserting a row sorted after a full page should keep that page")
+    void insert_afterPageRange_shouldKeepPage() {
+        ListQueryKey byNameAsc = ListQueryKey.of(0, 2, "name,asc", null);
+        cache.put(byNameAsc, page(product(10L, "Laptop"), product(6L, "Mouse")));
+
+        cache.evictAffected(change(null, product(12L, "Zebra case")));
+        assertThat(cache.get(byNameAsc)).isNotNull();
+
+        cache.evictAffected(change(null, product(13L, "Keyboard")));
+        assertThat(cache.get(byNameAsc)).isNull();
+    }
+
+    @Test
+    @DisplayName("Changes to rows outside a search should keep the searched pages")
+    void change_notMatchingSearch_shouldKeepSearchedPage() {
+        cache.evictAffected(change(null, product(11L, "Keyboard")));
+        assertThat(cache.get(phonesPage0)).isNotNull();
+
+        cache.evictAffected(change(null, product(12L, "Phone Z")));
+        assertThat(cache.get(phonesPage0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Pages that could not be tagged should be evicted by any change")
+    void untaggedPages_shouldAlwaysBeEvicted() {
+        cache.put("legacy-key", page(product(1L, "Cable")));
+
+        cache.evictAffected(change(null, product(2L, "Cable")));
+
+        assertThat(cache.get("legacy-key")).isNull();
+        // Only the partial last page is shifted by an older row
+        assertThat(cache.get(page2)).isNull();
+        assertThat(cache.get(page0)).isNotNull();
+        assertThat(cache.trackedPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Clear should drop all tags")
+    void clear_shouldDropTags() {
+        cache.clear();
+
+        assertThat(cache.trackedPages()).isZero();
+    }
+
+    private static ListChange change(ProductResponse before, ProductResponse after) {
+        return ListChange.of(before, after, PROPERTIES);
+    }
+
+    private static ProductResponse product(Long id, String name) {
+        return ProductResponse.builder().id(id).name(name).price(BigDecimal.TEN).quantityInStock(5).build();
+    }
+
+    private static PageResponse<ProductResponse> page(ProductResponse... items) {
+        PageResponse<ProductResponse> page = new PageResponse<>();
+        page.setItems(List.of(items));
+        page.setSize(2);
+        return page;
+    }
+}
@@ -0,0 +1,89 @@
+package com.backend.backend.infrastructure.cache.refresh;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheRefreshSupport Tests")
+class CacheRefreshSupportTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CacheRefreshSupport support = new CacheRefreshSupport(1, 1, 1,
+            TransactionOperations.withoutTransaction(), registry)
+            .register("product-by-id", id -> "fresh-" + id)
+            .register("slow", id -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return id;
+            })
+            .register("broken", id -> {
+                throw new IllegalStateException("db down");
+            });
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        support.destroy();
+    }
+
+    @Test
+    @DisplayName("Should not load misses itself")
+    void load_returnsNull() throws Exception {
+        assertThat(support.loaderFor("product-by-id").orElseThrow().load(1L)).isNull();
+        assertThat(support.loaderFor("product-list")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload asynchronously and time the reload")
+    void asyncReload_usesReloader() throws Exception {
+        CacheLoader<Object, Object> loader = support.loaderFor("product-by-id").orElseThrow();
+
+        Object value = loader.asyncReload(1L, "stale", Runnable::run).get(5, TimeUnit.SECONDS);
+
+        assertThat(value).isEqualTo("fresh-1");
+        assertThat(registry.get("cache.refresh").tags("cache", "product-by-id", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail the reload so Caffeine keeps the current value")
+    void asyncReload_failureIsCounted() {
+        CacheLoader<Object, Object> loader = support.loaderFor("broken").orElseThrow();
+
+        assertThatThrownBy(() -> loader.asyncReload(1L, "stale", Runnable::run).join())
+                .isInstanceOf(CompletionException.class);
+        assertThat(registry.get("cache.refresh").tags("cache", "broken", "outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject and count reloads beyond the executor bound")
+    void asyncReload_rejectedWhenSaturated() throws Exception {
+        CacheLoader<Object, Object> slow = support.loaderFor("slow").orElseThrow();
+        slow.asyncReload(1L, 1L, Runnable::run); // occupies the only thread
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        slow.asyncReload(2L, 2L, Runnable::run); // fills the queue
+
+        assertThatThrownBy(() -> slow.asyncReload(3L, 3L, Runnable::run))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(registry.get("cache.refresh.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedRateLimiter Tests")
+class DistributedRateLimiterTest {
+
+    private static final long WINDOW_START = 1_700_000_040_000L; // multiple of 60s
+
+    @Mock
+    private RateLimitQuotaStore store;
+
+    private final AtomicLong now = new AtomicLong(WINDOW_START + 1_000);
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setApiRequests(200);
+        props.setApiWindowSeconds(60);
+        props.setPublicRequests(100);
+        props.setPublicWindowSeconds(60);
+        props.setAuthRequests(10);
+        props.setAuthWindowSeconds(60);
+        props.setMaxTrackedClients(1000);
+        props.setLeaseSize(10);
+        props.setStoreRetrySeconds(5);
+        meterRegistry = new SimpleMeterRegistry();
+        LocalRateLimiter local = new LocalRateLimiter(props, meterRegistry);
+        limiter = new DistributedRateLimiter(props, store, local, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("Leased tokens should be handed out without asking the store again")
+    void leasedTokens_shouldBeServedLocally() {
+        given(store.reserve(DistributedRateLimiter.storeKey(RateLimitTier.API, "c1"), WINDOW_START, 10, 200))
+                .willReturn(new RateLimitQuotaStore.Reservation(10, 150));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(RateLimitTier.API, "c1").allowed()).isTrue();
+        }
+
+        verify(store, times(1)).reserve(anyString(), anyLong(), anyLong(), anyLong());
+        // Next lease: 9 local tokens plus the 150 nobody has reserved yet.
+        assertThat(limiter.tryAcquire(RateLimitTier.API, "c1").remaining()).isEqualTo(159);
+    }
+
+    @Test
+    @DisplayName("A used-up window should be rejected locally until it ends")
+    void exhaustedWindow_shouldRejectWithoutStore() {
+        given(store.reserve(DistributedRateLimiter.storeKey(RateLimitTier.AUTH, "c1"), WINDOW_START, 1, 10))
+                .willReturn(new RateLimitQuotaStore.Reservation(1, 0));
+
+        assertThat(limiter.tryAcquire(RateLimitTier.AUTH, "c1").allowed()).isTrue();
+        RateLimiter.Decision rejected = limiter.tryAcquire(RateLimitTier.AUTH, "c1");
+        limiter.tryAcquire(RateLimitTier.AUTH, "c1");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(59));
+        verify(store, times(1)).reserve(anyString(), anyLong(), anyLong(), anyLong());
+        assertThat(meterRegistry.get("rate.limit.throttled").tag("tier", "auth").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("A new window should reserve again")
+    void nextWindow_shouldReserveAgain() {
+        given(store.reserve(DistributedRateLimiter.storeKey(RateLimitTier.AUTH, "c1"), WINDOW_START, 1, 10))
+                .willReturn(new RateLimitQuotaStore.Reservation(0, 0));
+        given(store.reserve(DistributedRateLimiter.storeKey(RateLimitTier.AUTH, "c1"), WINDOW_START + 60_000, 1, 10))
+                .willReturn(new RateLimitQuotaStore.Reservation(1, 9));
+
+        assertThat(limiter.tryAcquire(RateLimitTier.AUTH, "c1").allowed()).isFalse();
+        now.addAndGet(60_000);
+
+        assertThat(limiter.tryAcquire(RateLimitTier.AUTH, "c1").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Store failures should fall back to node-local limits for a while")
+    void storeFailure_shouldDegradeToLocalLimits() {
+        given(store.reserve(anyString(), anyLong(), anyLong(), anyLong()))
+                .willThrow(new DataAccessResourceFailureException("down"));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(RateLimitTier.AUTH, "c1").allowed()).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RateLimitTier.AUTH, "c1").allowed()).isFalse();
+
+        verify(store, times(1)).reserve(anyString(), anyLong(), anyLong(), anyLong());
+        assertThat(meterRegistry.get("rate.limit.store.failures").counter().count()).isEqualTo(1.0);
+
+        now.addAndGet(5_000);
+        limiter.tryAcquire(RateLimitTier.API, "c2");
+        verify(store).reserve(eq(DistributedRateLimiter.storeKey(RateLimitTier.API, "c2")), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("A per-key SQL error should not switch the node to local limits")
+    void perKeyFailure_shouldNotMarkStoreDown() {
+        given(store.reserve(eq(DistributedRateLimiter.storeKey(RateLimitTier.API, "bad")), anyLong(), anyLong(), anyLong()))
+                .willThrow(new DataIntegrityViolationException("Data too long for column 'bucket_key'"));
+        given(store.reserve(eq(DistributedRateLimiter.storeKey(RateLimitTier.API, "c1")), anyLong(), anyLong(), anyLong()))
+                .willReturn(new RateLimitQuotaStore.Reservation(10, 190));
+
+        assertThat(limiter.tryAcquire(RateLimitTier.API, "bad").allowed()).isTrue();
+        assertThat(limiter.tryAcquire(RateLimitTier.API, "c1").allowed()).isTrue();
+
+        verify(store).reserve(eq(DistributedRateLimiter.storeKey(RateLimitTier.API, "c1")), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Store keys should have a fixed length whatever the client key")
+    void storeKey_shouldFitTheColumn() {
+        assertThat(DistributedRateLimiter.storeKey(RateLimitTier.PUBLIC, "x".repeat(10_000))).hasSizeLessThanOrEqualTo(100);
+        assertThat(DistributedRateLimiter.storeKey(RateLimitTier.API, "a"))
+                .isNotEqualTo(DistributedRateLimiter.storeKey(RateLimitTier.API, "b"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setEnabled(true);
+        props.setAuthRequests(3);
+        props.setAuthWindowSeconds(60);
+        props.setPublicRequests(100);
+        props.setPublicWindowSeconds(60);
+        props.setApiRequests(200);
+        props.setApiWindowSeconds(60);
+        props.setMaxTrackedClients(1000);
+        props.setMessage("Rate limit exceeded. Please try again later.");
+        props.setTrustedProxies(List.of("10.1.0.0/16"));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new LocalRateLimiter(props, meterRegistry);
+        filter = new RateLimitFilter(props, rateLimiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Requests within the limit should pass with rate-limit headers")
+    void withinLimit_shouldPassWithHeaders() throws Exception {
+        MockHttpServletResponse response = send("/auth/login", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("Requests over the limit should get 429 with Retry-After and be counted")
+    void overLimit_shouldReturn429() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("/auth/login", "10.0.0.1");
+        }
+
+        MockHttpServletResponse response = send("/auth/login", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(1L, 20L);
+        assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(response.getContentAsString()).contains("\"status\":429").contains("Rate limit exceeded");
+        assertThat(meterRegistry.get("rate.limit.throttled").tag("tier", "auth").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Clients and tiers should have separate buckets")
+    void buckets_shouldBeIsolated() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("/auth/login", "10.0.0.1");
+        }
+
+        assertThat(send("/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(send("/api/v1/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("/api/v1/orders", "10.0.0.1").getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("200");
+        assertThat(rateLimiter.trackedBuckets()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Routes outside every tier should not be limited")
+    void unlimitedRoute_shouldPassWithoutHeaders() throws Exception {
+        MockHttpServletResponse response = send("/actuator/prometheus", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isNull();
+        assertThat(rateLimiter.trackedBuckets()).isZero();
+    }
+
+    @Test
+    @DisplayName("Routes should resolve to their tier")
+    void resolve_shouldMapRoutes() {
+        assertThat(RateLimitTier.resolve("/auth/refresh")).isEqualTo(RateLimitTier.AUTH);
+        assertThat(RateLimitTier.resolve("/api/v1/rate-limit-test/auth")).isEqualTo(RateLimitTier.AUTH);
+        assertThat(RateLimitTier.resolve("/api/v1/products/42")).isEqualTo(RateLimitTier.PUBLIC);
+        assertThat(RateLimitTier.resolve("/actuator/health")).isEqualTo(RateLimitTier.PUBLIC);
+        assertThat(RateLimitTier.resolve("/api/v1/customers")).isEqualTo(RateLimitTier.API);
+        assertThat(RateLimitTier.resolve("/api/v1/rate-limit-test/unlimited")).isNull();
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For should only be believed from trusted proxies, right-most untrusted hop first")
+    void clientAddress_shouldIgnoreSpoofedForwardedFor() {
+        assertThat(filter.getClientIpAddress(request("10.0.0.1", "1.2.3.4"))).isEqualTo("10.0.0.1");
+        assertThat(filter.getClientIpAddress(request("10.1.0.5", "6.6.6.6, 203.0.113.7"))).isEqualTo("203.0.113.7");
+        assertThat(filter.getClientIpAddress(request("10.1.0.5", "203.0.113.7, 10.1.0.9"))).isEqualTo("203.0.113.7");
+        assertThat(filter.getClientIpAddress(request("10.1.0.5", "x".repeat(500))))
+                .hasSize(RateLimitFilter.MAX_CLIENT_KEY_LENGTH);
+    }
+
+    private static MockHttpServletRequest request(String peer, String xForwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.setRemoteAddr(peer);
+        request.addHeader("X-Forwarded-For", xForwardedFor);
+        return request;
+    }
+
+    private MockHttpServletResponse send(String path, String clientIp) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(clientIp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,61 @@
+package com.backend.backend.infrastructure.config.security;
+
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitQuotaStoreIT extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RateLimitQuotaStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rate_limit_quotas");
+        store = new RateLimitQuotaStore(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void reserve_grantsUntilTheLimitAcrossCallers() {
+        assertThat(store.reserve("api:10.0.0.1", 60_000, 4, 10))
+                .isEqualTo(new RateLimitQuotaStore.Reservation(4, 6));
+        assertThat(store.reserve("api:10.0.0.1", 60_000, 4, 10))
+                .isEqualTo(new RateLimitQuotaStore.Reservation(4, 2));
+        // Only 2 left: partial grant, window used up.
+        assertThat(store.reserve("api:10.0.0.1", 60_000, 4, 10))
+                .isEqualTo(new RateLimitQuotaStore.Reservation(2, 0));
+        assertThat(store.reserve("api:10.0.0.1", 60_000, 4, 10).granted()).isZero();
+        // Other clients have their own quota.
+        assertThat(store.reserve("api:10.0.0.2", 60_000, 4, 10).granted()).isEqualTo(4);
+    }
+
+    @Test
+    void reserve_resetsOnNewWindowButNotForLaggingClocks() {
+        store.reserve("auth:10.0.0.1", 60_000, 10, 10);
+
+        assertThat(store.reserve("auth:10.0.0.1", 120_000, 1, 10).granted()).isEqualTo(1);
+        // A node still in the previous window counts against the current one.
+        assertThat(store.reserve("auth:10.0.0.1", 60_000, 1, 10))
+                .isEqualTo(new RateLimitQuotaStore.Reservation(1, 8));
+    }
+
+    @Test
+    void purgeBefore_deletesOldWindows() {
+        store.reserve("api:old", 60_000, 1, 10);
+        store.reserve("api:new", 180_000, 1, 10);
+
+        assertThat(store.purgeBefore(120_000)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_quotas", Integer.class)).isEqualTo(1);
+    }
+}
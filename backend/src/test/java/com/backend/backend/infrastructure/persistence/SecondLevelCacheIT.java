@@ -0,0 +1,120 @@
+package com.backend.backend.infrastructure.persistence;
+
+import com.backend.backend.entity.Product;
+import com.backend.backend.repository.ProductRepository;
+import com.backend.backend.support.IntegrationTestBase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hibernate second-level cache")
+class SecondLevelCacheIT extends IntegrationTestBase {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private NaturalIdLookup naturalIdLookup;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findById should be served from the entity region after the first load")
+    void findById_shouldHitEntityRegion() {
+        Long id = saveProduct().getId();
+        entityManagerFactory.getCache().evictAll();
+
+        transactionTemplate.executeWithoutResult(s -> productRepository.findById(id).orElseThrow());
+        transactionTemplate.executeWithoutResult(s -> productRepository.findById(id).orElseThrow());
+
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.PRODUCT).getHitCount())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Slug lookups should be resolved through the natural-id region")
+    void naturalIdLookup_shouldHitNaturalIdRegion() {
+        Product product = saveProduct();
+
+        assertThat(naturalIdLookup.find(Product.class, product.getSlug())).isPresent();
+        assertThat(naturalIdLookup.find(Product.class, product.getSlug())).isPresent();
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Soft-deleted entities should not be returned from the cache")
+    void softDelete_shouldEvictCachedEntity() {
+        Product product = saveProduct();
+        Long id = product.getId();
+        transactionTemplate.executeWithoutResult(s -> productRepository.findById(id).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(s -> {
+            Product loaded = productRepository.findById(id).orElseThrow();
+            loaded.delete();
+            productRepository.save(loaded);
+        });
+
+        assertThat(entityManagerFactory.getCache().contains(Product.class, id)).isFalse();
+        Optional<Product> reloaded = transactionTemplate.execute(s -> productRepository.findById(id));
+        assertThat(reloaded).isEmpty();
+        assertThat(naturalIdLookup.find(Product.class, product.getSlug())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A stock change made on a stale cached copy should fail instead of overwriting")
+    void staleCachedCopy_shouldFailStockUpdate() {
+        Long id = saveProduct().getId();
+        transactionTemplate.executeWithoutResult(s -> productRepository.findById(id).orElseThrow());
+        // Another node sold the last units; its eviction has not reached this node yet
+        jdbcTemplate.update("UPDATE products SET quantity_in_stock = 0, version = version + 1 WHERE id = ?", id);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(s -> {
+            Product stale = productRepository.findById(id).orElseThrow();
+            assertThat(stale.getQuantityInStock()).isEqualTo(3);
+            stale.setQuantityInStock(stale.getQuantityInStock() - 1);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity_in_stock FROM products WHERE id = ?",
+                Integer.class, id)).isZero();
+    }
+
+    private Product saveProduct() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return transactionTemplate.execute(s -> productRepository.save(Product.builder()
+                .name("Cached " + suffix)
+                .slug("cached-" + suffix)
+                .price(new BigDecimal("10.00"))
+                .quantityInStock(3)
+                .build()));
+    }
+}
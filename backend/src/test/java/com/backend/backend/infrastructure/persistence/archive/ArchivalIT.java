@@ -0,0 +1,139 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import com.backend.backend.service.OrderService;
+import com.backend.backend.shared.domain.exception.AppException;
+import com.backend.backend.shared.domain.exception.BusinessRuleViolationException;
+import com.backend.backend.shared.domain.exception.EntityNotFoundException;
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Archival of soft-deleted rows")
+class ArchivalIT extends IntegrationTestBase {
+
+    /** Quá retention mặc định (30 ngày) */
+    private static final Timestamp LONG_AGO = Timestamp.from(Instant.now().minus(Duration.ofDays(40)));
+
+    @Autowired
+    private ArchivalJob archivalJob;
+
+    @Autowired
+    private SoftDeleteArchiver archiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("A run should move old soft-deleted rows children first and keep rows still referenced")
+    void run_shouldArchiveChildrenFirst_andKeepReferencedRows() {
+        long deletedCustomer = insert("INSERT INTO customers (name, slug) VALUES (?, ?)", "Archived customer", slug());
+        long recentlyDeletedOrder = insert("INSERT INTO orders (customer_id, total_amount, deleted_at)"
+                + " VALUES (?, 10, NOW())", deletedCustomer);
+        long product = insertProduct();
+        long order = insert("INSERT INTO orders (customer_id, total_amount) VALUES (?, 10)", insertCustomer());
+        long item = insert("INSERT INTO order_items (order_id, product_id, quantity, price) VALUES (?, ?, 1, 10)",
+                order, product);
+        softDeleteLongAgo("customers", deletedCustomer);
+        softDeleteLongAgo("order_items", item);
+        softDeleteLongAgo("orders", order);
+
+        Map<ArchivedTable, Integer> moved = archivalJob.runOnce().orElseThrow();
+
+        assertThat(moved.get(ArchivedTable.ORDER_ITEMS)).isGreaterThanOrEqualTo(1);
+        assertThat(moved.get(ArchivedTable.ORDERS)).isGreaterThanOrEqualTo(1);
+        assertThat(count("order_items", item)).isZero();
+        assertThat(count("orders", order)).isZero();
+        assertThat(count("order_items_archive", item)).isOne();
+        assertThat(count("orders_archive", order)).isOne();
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at FROM orders_archive WHERE id = ?",
+                Timestamp.class, order)).isNotNull();
+        // Đơn hàng mới xóa chưa quá retention và vẫn trỏ tới khách hàng -> khách hàng chưa được lưu trữ
+        assertThat(count("orders", recentlyDeletedOrder)).isOne();
+        assertThat(count("customers", deletedCustomer)).isOne();
+        assertThat(count("products", product)).isOne();
+    }
+
+    @Test
+    @DisplayName("Restore should require the parent first and make the row visible again")
+    void restore_shouldRequireParentFirst_andClearNegativeCache() {
+        long order = insert("INSERT INTO orders (customer_id, total_amount) VALUES (?, 10)", insertCustomer());
+        long item = insert("INSERT INTO order_items (order_id, product_id, quantity, price) VALUES (?, ?, 1, 10)",
+                order, insertProduct());
+        softDeleteLongAgo("order_items", item);
+        softDeleteLongAgo("orders", order);
+        // Ghi nhận "không tồn tại" vào negative cache
+        assertThatThrownBy(() -> orderService.getById(order)).isInstanceOf(AppException.class);
+        archivalJob.runOnce().orElseThrow();
+
+        assertThatThrownBy(() -> archiver.restore(ArchivedTable.ORDER_ITEMS, item))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("restore it first");
+
+        archiver.restore(ArchivedTable.ORDERS, order);
+        archiver.restore(ArchivedTable.ORDER_ITEMS, item);
+
+        assertThat(count("orders_archive", order)).isZero();
+        assertThat(count("order_items_archive", item)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE id = ? AND deleted_at IS NULL",
+                Integer.class, order)).isOne();
+        assertThat(orderService.getById(order).getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Restore of a row that is not in the archive should fail with not found")
+    void restore_shouldRejectRowsNotInArchive() {
+        assertThatThrownBy(() -> archiver.restore(ArchivedTable.PRODUCTS, Long.MAX_VALUE))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private long insertCustomer() {
+        return insert("INSERT INTO customers (name, slug) VALUES (?, ?)", "Live customer", slug());
+    }
+
+    private long insertProduct() {
+        return insert("INSERT INTO products (name, slug, price, quantity_in_stock) VALUES (?, ?, 10, 5)",
+                "Archive probe", slug());
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    private void softDeleteLongAgo(String table, long id) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = ? WHERE id = ?", LONG_AGO, id);
+    }
+
+    private int count(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+
+    private static String slug() {
+        return "archive-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,41 @@
+package com.backend.backend.infrastructure.persistence.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchivedTableTest {
+
+    @Test
+    @DisplayName("Every table should be declared after the tables that reference it")
+    void declarationOrder_shouldPutChildrenFirst() {
+        List<ArchivedTable> order = List.of(ArchivedTable.values());
+        for (ArchivedTable table : order) {
+            for (ArchivedTable.ChildReference child : table.children()) {
+                assertThat(order.indexOf(ArchivedTable.fromTableName(child.table())))
+                        .as("%s references %s", child.table(), table.tableName())
+                        .isLessThan(order.indexOf(table));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("children() should be the inverse of parents()")
+    void children_shouldInvertParents() {
+        assertThat(ArchivedTable.PRODUCTS.children()).containsExactlyInAnyOrder(
+                new ArchivedTable.ChildReference("order_items", "product_id"),
+                new ArchivedTable.ChildReference("stock_entries", "product_id"));
+        assertThat(ArchivedTable.ORDER_ITEMS.children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Tables that are not archived should be rejected")
+    void fromTableName_shouldRejectUnknownTables() {
+        assertThat(ArchivedTable.fromTableName("orders")).isEqualTo(ArchivedTable.ORDERS);
+        assertThatThrownBy(() -> ArchivedTable.fromTableName("users")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+import com.backend.backend.support.IntegrationTestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica is a second pool on the test MySQL; every connection of that pool sets {@code @pool},
+ * which tells which pool served a transaction.
+ */
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        // replica ở đây chính là MySQL test, không có SHOW REPLICA STATUS
+        "app.datasource.replica.treat-non-replica-as-in-sync=true"
+})
+class ReadReplicaRoutingIT extends IntegrationTestBase {
+
+    private static final String ROUTED = "com.backend.backend.service.SupplierService.probe";
+
+    @DynamicPropertySource
+    static void replicaProps(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.hikari.jdbc-url", mysql::getJdbcUrl);
+        // root để chạy được SHOW REPLICA STATUS
+        registry.add("app.datasource.replica.hikari.username", () -> "root");
+        registry.add("app.datasource.replica.hikari.password", mysql::getPassword);
+        registry.add("app.datasource.replica.hikari.connection-init-sql", () -> "SET @pool = 'replica'");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    void awaitLagCheck() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Double.isNaN(lagMonitor.lagSeconds()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void routedReadOnlyTransaction_usesTheReplicaPool() {
+        assertThat(pool(ROUTED, true)).isEqualTo("replica");
+        assertThat(pool(ROUTED, false)).isNull();
+        assertThat(pool("com.backend.backend.security.UserSecurityStateService.probe", true)).isNull();
+    }
+
+    @Test
+    void readsAfterOwnWrite_stayOnThePrimary() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        pool("com.backend.backend.service.OrderService.probe", false);
+
+        assertThat(pool(ROUTED, true)).isNull();
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        assertThat(pool(ROUTED, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void eachPoolPublishesItsOwnHikariMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.find("db.replica.lag").gauge()).isNotNull();
+    }
+
+    private String pool(String transactionName, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setName(transactionName);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.queryForObject("SELECT @pool", String.class));
+    }
+}
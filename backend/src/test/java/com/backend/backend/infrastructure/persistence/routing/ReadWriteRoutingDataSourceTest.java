@@ -0,0 +1,146 @@
+package com.backend.backend.infrastructure.persistence.routing;
+
+import com.backend.backend.config.ReadReplicaProps;
+import com.backend.backend.infrastructure.persistence.routing.ReadWriteRoutingDataSource.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String ROUTED = "com.backend.backend.service.ProductService.list";
+    private static final Object EMF_KEY = new Object();
+
+    private final ReadReplicaProps props = new ReadReplicaProps();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(null, Duration.ofSeconds(1), false, registry);
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(new DriverManagerDataSource(), new DriverManagerDataSource(),
+                props, lagMonitor, new ReadYourWrites(Duration.ofSeconds(5)), registry);
+        lagMonitor.update(0.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(EMF_KEY);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions of routed classes should use the replica")
+    void routedReadOnly_shouldUseReplica() {
+        transaction(ROUTED, true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceTarget.REPLICA);
+        assertThat(registry.get("db.routing.connections").tag("reason", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Writes, other classes and non-transactional access should use the primary")
+    void everythingElse_shouldUsePrimary() {
+        assertThat(routing.route()).isEqualTo(Route.NON_TRANSACTIONAL);
+
+        transaction(ROUTED, false);
+        assertThat(routing.route()).isEqualTo(Route.READ_WRITE);
+
+        transaction("com.backend.backend.security.UserSecurityStateService.load", true);
+        assertThat(routing.route()).isEqualTo(Route.NOT_ROUTED);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags or its lag is unknown")
+    void laggingReplica_shouldUsePrimary() {
+        transaction(ROUTED, true);
+
+        lagMonitor.update(3.0);
+        assertThat(routing.route()).isEqualTo(Route.REPLICA_LAGGING);
+        lagMonitor.update(Double.NaN);
+        assertThat(routing.route()).isEqualTo(Route.REPLICA_LAGGING);
+        lagMonitor.update(1.0);
+        assertThat(routing.route()).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    @DisplayName("A user who just wrote should keep reading from the primary, others should not")
+    void recentWriter_shouldReadFromPrimary() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        transaction("com.backend.backend.service.OrderService.create", false);
+        routing.route();
+
+        transaction(ROUTED, true);
+        assertThat(routing.route()).isEqualTo(Route.READ_YOUR_WRITES);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        assertThat(routing.route()).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    @DisplayName("Replica transactions should read the second-level cache without putting into it")
+    void replicaTransaction_shouldNotPutIntoSecondLevelCache() {
+        Session session = boundSession();
+        transaction(ROUTED, true);
+
+        routing.determineCurrentLookupKey();
+
+        verify(session).setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    @DisplayName("Transactions on the primary should keep putting into the second-level cache")
+    void primaryTransaction_shouldKeepCacheMode() {
+        Session session = boundSession();
+        transaction(ROUTED, true);
+        lagMonitor.update(3.0);
+
+        routing.determineCurrentLookupKey();
+
+        verify(session, never()).setCacheMode(CacheMode.GET);
+    }
+
+    private static Session boundSession() {
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        given(entityManager.unwrap(Session.class)).willReturn(session);
+        given(session.getCacheMode()).willReturn(CacheMode.NORMAL);
+        given(session.isOpen()).willReturn(true);
+        TransactionSynchronizationManager.bindResource(EMF_KEY, new EntityManagerHolder(entityManager));
+        TransactionSynchronizationManager.initSynchronization();
+        return session;
+    }
+
+    private static void transaction(String name, boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,74 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import com.backend.backend.entity.OrderItem;
+import com.backend.backend.support.IntegrationTestBase;
+import com.backend.backend.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementRecorderIT extends IntegrationTestBase {
+
+    private static final int ORDERS = 6;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        itemIds.clear();
+        for (int i = 0; i < ORDERS; i++) {
+            jdbcTemplate.update("INSERT INTO orders (total_amount) VALUES (?)", 10 + i);
+            Long orderId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+            jdbcTemplate.update("INSERT INTO order_items (order_id, quantity, price) VALUES (?, 1, 10)", orderId);
+            itemIds.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class));
+        }
+    }
+
+    @Test
+    void lazyLoadingInALoop_shouldBeReportedAsRepeatedStatement() {
+        StatementStats stats = StatementRecorder.begin();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx ->
+                    entityManager.createQuery("SELECT i FROM OrderItem i WHERE i.id IN :ids", OrderItem.class)
+                            .setParameter("ids", itemIds)
+                            .getResultList()
+                            .forEach(item -> item.getOrder().getTotalAmount()));
+        } finally {
+            StatementRecorder.end(stats);
+        }
+
+        assertThat(stats.statements()).isEqualTo(1 + ORDERS);
+        assertThat(stats.entitiesLoaded()).isEqualTo(2 * ORDERS);
+        assertThat(stats.repeated(ORDERS)).singleElement()
+                .satisfies(repeated -> assertThat(repeated.shape()).startsWith("select").contains("orders"));
+    }
+
+    @Test
+    @QueryBudget(statements = 1)
+    void fetchJoin_staysWithinBudget(StatementStats stats) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx ->
+                entityManager.createQuery("SELECT i FROM OrderItem i JOIN FETCH i.order WHERE i.id IN :ids",
+                                OrderItem.class)
+                        .setParameter("ids", itemIds)
+                        .getResultList()
+                        .forEach(item -> item.getOrder().getTotalAmount()));
+
+        assertThat(stats.repeated(2)).isEmpty();
+    }
+}
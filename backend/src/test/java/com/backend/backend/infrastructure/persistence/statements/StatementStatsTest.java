@@ -0,0 +1,61 @@
+package com.backend.backend.infrastructure.persistence.statements;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementStats Tests")
+class StatementStatsTest {
+
+    @Test
+    @DisplayName("Statements differing only in literals or IN-list length should share a shape")
+    void shape_shouldIgnoreValues() {
+        assertThat(StatementStats.shape("select p1_0.id from products p1_0 where p1_0.id=42"))
+                .isEqualTo(StatementStats.shape("SELECT p1_0.id  FROM products p1_0\n WHERE p1_0.id=7"));
+        assertThat(StatementStats.shape("select * from customers where name='Ann'"))
+                .isEqualTo("select * from customers where name=?");
+        assertThat(StatementStats.shape("select * from orders where id in (?, ?, ?)"))
+                .isEqualTo(StatementStats.shape("select * from orders where id in (?,?)"));
+    }
+
+    @Test
+    @DisplayName("Repeated shapes should be reported most repeated first")
+    void repeated_shouldRankShapes() {
+        StatementStats stats = new StatementStats(null);
+        for (int i = 0; i < 6; i++) {
+            stats.onStatement("select * from orders where id=" + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            stats.onStatement("select * from products where id=?");
+        }
+        stats.onStatement("select * from order_items");
+
+        assertThat(stats.statements()).isEqualTo(10);
+        assertThat(stats.repeated(3)).extracting(StatementStats.RepeatedStatement::count).containsExactly(6, 3);
+        assertThat(stats.repeated(5)).singleElement()
+                .extracting(StatementStats.RepeatedStatement::shape).isEqualTo("select * from orders where id=?");
+    }
+
+    @Test
+    @DisplayName("A nested scope should also count into its parent and restore it when closed")
+    void nestedScope_shouldCountIntoParent() {
+        StatementStats outer = StatementRecorder.begin();
+        try {
+            StatementStats inner = StatementRecorder.begin();
+            new StatementCountingInspector().inspect("select 1");
+            inner.onJdbcExecution(TimeUnit.MILLISECONDS.toNanos(3));
+            StatementRecorder.end(inner);
+
+            assertThat(StatementRecorder.current()).isSameAs(outer);
+            assertThat(inner.statements()).isEqualTo(1);
+            assertThat(outer.statements()).isEqualTo(1);
+            assertThat(outer.jdbcTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+        } finally {
+            StatementRecorder.end(outer);
+        }
+        assertThat(StatementRecorder.current()).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.backend.infrastructure.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(Duration.ofMillis(10), registry);
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    // JDK 24+ (JEP 491) no longer pins virtual threads inside synchronized.
+    @EnabledForJreRange(max = JRE.JAVA_23)
+    @DisplayName("Blocking inside synchronized on a virtual thread should be reported at the caller")
+    void synchronizedSleep_shouldBeReported() throws Exception {
+        monitor.start();
+
+        Thread.ofVirtual().start(this::sleepHoldingMonitor).join();
+
+        List<Map<String, Object>> locations = awaitLocations();
+        assertThat(locations).hasSize(1);
+        assertThat((String) locations.get(0).get("location"))
+                .startsWith(VirtualThreadPinningMonitorTest.class.getName() + ".sleepHoldingMonitor");
+        assertThat((Long) locations.get(0).get("count")).isEqualTo(1L);
+        assertThat(registry.get("jvm.threads.virtual.pinned").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Start and stop should be idempotent")
+    void lifecycle() {
+        monitor.start();
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        monitor.stop();
+        monitor.stop();
+        assertThat(monitor.isRunning()).isFalse();
+        assertThat(monitor.snapshot()).isEmpty();
+    }
+
+    private void sleepHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<Map<String, Object>> awaitLocations() throws InterruptedException {
+        // JFR flushes its stream about once per second.
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (monitor.snapshot().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        return monitor.snapshot();
+    }
+}
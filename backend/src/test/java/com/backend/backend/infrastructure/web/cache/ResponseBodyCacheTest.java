@@ -0,0 +1,117 @@
+package com.backend.backend.infrastructure.web.cache;
+
+import com.backend.backend.config.CacheProps;
+import com.backend.backend.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseBodyCache Tests")
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ResponseBodyCache cache;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        CacheProps props = new CacheProps();
+        props.getResponseBody().setGzipMinSize(DataSize.ofBytes(64));
+        cache = new ResponseBodyCache(objectMapper, props, new SimpleMeterRegistry());
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    @DisplayName("Should reuse the bytes for the same cached DTO instance")
+    void ok_sameInstance_shouldReuseBytes() {
+        ProductResponse dto = product("iPhone");
+
+        byte[] first = cache.ok(dto, request).getBody();
+        byte[] second = cache.ok(dto, request).getBody();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should serialize again once the service cache holds a new instance")
+    void ok_newInstance_shouldSerializeAgain() throws IOException {
+        ProductResponse old = product("iPhone");
+        cache.ok(old, request);
+
+        ProductResponse updated = product("iPhone 16");
+        byte[] body = cache.ok(updated, request).getBody();
+
+        assertThat(objectMapper.readValue(body, ProductResponse.class).getName()).isEqualTo("iPhone 16");
+    }
+
+    @Test
+    @DisplayName("Should serve precompressed bytes to clients that accept gzip")
+    void ok_acceptsGzip_shouldServeCompressedBody() throws IOException {
+        ProductResponse dto = product("A product with a name long enough to pass the gzip threshold");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        ResponseEntity<byte[]> response = cache.ok(dto, request);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(objectMapper.readValue(in, ProductResponse.class).getName()).startsWith("A product");
+        }
+        assertThat(cache.ok(dto, request).getBody()).isSameAs(response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should not compress small bodies or for clients without gzip")
+    void ok_smallOrNoGzip_shouldServePlainJson() {
+        ProductResponse large = product("A product with a name long enough to pass the gzip threshold");
+
+        assertThat(cache.ok(large, request).getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        // {"id":1} – dưới ngưỡng 64 byte; một ProductResponse rỗng vẫn ghi mọi trường null và vượt ngưỡng
+        ResponseEntity<byte[]> small = cache.ok(Map.of("id", 1), request);
+        assertThat(small.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should serve CBOR to clients asking for it, cached separately from JSON")
+    void ok_acceptsCbor_shouldServeCbor() throws IOException {
+        ProductResponse dto = product("iPhone");
+        byte[] json = cache.ok(dto, request).getBody();
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5");
+
+        ResponseEntity<byte[]> response = cache.ok(dto, request);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(response.getBody()).isNotEqualTo(json);
+        assertThat(objectMapper.copyWith(new CBORFactory()).readValue(response.getBody(), ProductResponse.class)
+                .getName()).isEqualTo("iPhone");
+        assertThat(cache.ok(dto, request).getBody()).isSameAs(response.getBody());
+    }
+
+    private static ProductResponse product(String name) {
+        return ProductResponse.builder()
+                .id(1L)
+                .name(name)
+                .slug("iphone")
+                .price(new BigDecimal("999.00"))
+                .quantityInStock(3)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+import com.backend.backend.config.ConcurrencyLimitProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimiter Tests")
+class ConcurrencyLimiterTest {
+
+    private final ConcurrencyLimitProps props = new ConcurrencyLimitProps();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Normal requests should be admitted up to the limit, bulk up to its share, critical always")
+    void admission_shouldFollowPriority() {
+        props.setInitialLimit(10);
+        props.setMinLimit(10);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(props, registry, clock::get);
+
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.tryAcquire(Priority.BULK).orElseThrow());
+        }
+        assertThat(limiter.tryAcquire(Priority.BULK)).isEmpty();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.tryAcquire(Priority.NORMAL).orElseThrow());
+        }
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isEmpty();
+        assertThat(limiter.tryAcquire(Priority.CRITICAL)).isPresent();
+
+        permits.forEach(ConcurrencyLimiter.Permit::release);
+        assertThat(limiter.inflight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isPresent();
+        assertThat(registry.get("http.server.concurrency.rejected").tag("priority", "bulk").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("http.server.concurrency.rejected").tag("priority", "normal").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("http.server.concurrency.limit").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Limit should grow while latency is stable and shrink when it rises")
+    void limit_shouldFollowLatency() {
+        props.setInitialLimit(20);
+        props.setMaxLimit(100);
+        props.setSampleWindow(Duration.ofMillis(1));
+        props.setMinWindowSamples(1);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(props, registry, clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            runWindow(limiter, Duration.ofMillis(10));
+        }
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 20; i++) {
+            runWindow(limiter, Duration.ofMillis(100));
+        }
+        assertThat(limiter.limit()).isLessThan(grown / 2).isGreaterThanOrEqualTo(props.getMinLimit());
+    }
+
+    @Test
+    @DisplayName("Limit should not grow while traffic stays well below it")
+    void limit_shouldHoldWhenUnderused() {
+        props.setInitialLimit(40);
+        props.setSampleWindow(Duration.ofMillis(100));
+        props.setMinWindowSamples(1);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(props, registry, clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire(Priority.NORMAL).orElseThrow();
+            clock.addAndGet(Duration.ofMillis(100).toNanos());
+            permit.release();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    /**
+     * Fills the current limit with requests that each take {@code latency}, then completes them, the
+     * most recent first so that the window closes on a sample taken at full load.
+     */
+    private void runWindow(ConcurrencyLimiter limiter, Duration latency) {
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        int limit = limiter.limit();
+        for (int i = 0; i < limit; i++) {
+            permits.add(limiter.tryAcquire(Priority.NORMAL).orElseThrow());
+        }
+        clock.addAndGet(latency.toNanos());
+        Collections.reverse(permits);
+        permits.forEach(ConcurrencyLimiter.Permit::release);
+    }
+}
@@ -0,0 +1,62 @@
+package com.backend.backend.infrastructure.web.concurrency;
+
+import com.backend.backend.config.ConcurrencyLimitProps;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoadSheddingFilter Tests")
+class LoadSheddingFilterTest {
+
+    private final ConcurrencyLimitProps props = new ConcurrencyLimitProps();
+
+    @Test
+    @DisplayName("Should classify auth and actuator as critical, exports and stats as bulk")
+    void classify() {
+        LoadSheddingFilter filter = filter(new ConcurrencyLimiter(props, new SimpleMeterRegistry()));
+
+        assertThat(filter.classify("/auth/login")).isEqualTo(Priority.CRITICAL);
+        assertThat(filter.classify("/actuator/health/liveness")).isEqualTo(Priority.CRITICAL);
+        assertThat(filter.classify("/api/v1/products/export-csv")).isEqualTo(Priority.BULK);
+        assertThat(filter.classify("/api/products/stats")).isEqualTo(Priority.BULK);
+        assertThat(filter.classify("/api/v1/products/7")).isEqualTo(Priority.NORMAL);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After above the limit but keep health checks working")
+    void overload_shouldShedButKeepCriticalPaths() throws Exception {
+        props.setInitialLimit(10);
+        props.setMinLimit(10);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(props, new SimpleMeterRegistry());
+        LoadSheddingFilter filter = filter(limiter);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(Priority.NORMAL).orElseThrow();
+        }
+
+        MockHttpServletResponse shed = send(filter, "/api/v1/products");
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(shed.getContentAsString()).contains("\"status\":503");
+
+        MockHttpServletResponse health = send(filter, "/actuator/health");
+        assertThat(health.getStatus()).isEqualTo(200);
+        assertThat(limiter.inflight()).isEqualTo(10);
+    }
+
+    private LoadSheddingFilter filter(ConcurrencyLimiter limiter) {
+        return new LoadSheddingFilter(props, limiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private static MockHttpServletResponse send(LoadSheddingFilter filter, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.backend.infrastructure.web.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseFormat Tests")
+class ResponseFormatTest {
+
+    @Test
+    @DisplayName("Missing, wildcard, unsupported or malformed Accept headers should get JSON")
+    void negotiate_defaultsToJson() {
+        assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("text/html")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("not a media type")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("Binary formats should be chosen by quality value")
+    void negotiate_honoursQuality() {
+        assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("application/cbor;q=0.2, application/json"))
+                .isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/cbor;q=0, */*;q=0.1")).isEqualTo(ResponseFormat.JSON);
+    }
+}
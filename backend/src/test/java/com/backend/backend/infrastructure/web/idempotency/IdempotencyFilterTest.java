@@ -0,0 +1,197 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import com.backend.backend.config.IdempotencyProps;
+import com.backend.backend.security.JwtVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String ORDER_BODY = "{\"customerId\":1,\"totalAmount\":150.00}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProps props = new IdempotencyProps();
+        props.setWaitTimeout(Duration.ofSeconds(5));
+        IdempotencyStore store = new CaffeineIdempotencyStore(props.getTtl(), props.getMaximumSize(),
+                props.getLockTimeout(), Clock.systemUTC());
+        filter = new IdempotencyFilter(store, props, mock(JwtVerifier.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A retry with the same key should replay the first response without running again")
+    void retry_shouldReplayRecordedResponse() throws Exception {
+        MockHttpServletResponse first = send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+        MockHttpServletResponse retry = send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(retry.getContentType()).startsWith("application/json");
+        assertThat(retry.getHeader("Location")).isEqualTo("/api/v1/orders/1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different body should be rejected with 422")
+    void differentBody_shouldBeRejected() throws Exception {
+        send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+
+        MockHttpServletResponse response = send("POST", "/api/v1/orders", "key-1",
+                "{\"customerId\":2,\"totalAmount\":10.00}", created());
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Keys should be scoped per user and per route")
+    void sameKey_otherUserOrRoute_shouldRunAgain() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+        send("POST", "/api/v1/orders/1/confirm", "key-1", ORDER_BODY, created());
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Server errors should not be recorded, so the retry runs again")
+    void serverError_shouldNotBeRecorded() throws Exception {
+        FilterChain failing = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(503);
+        };
+
+        send("POST", "/api/v1/orders", "key-1", ORDER_BODY, failing);
+        MockHttpServletResponse retry = send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("A throttled request should not be recorded, so the retry runs")
+    void throttled_shouldNotBeRecorded() throws Exception {
+        FilterChain throttled = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(429);
+        };
+
+        send("POST", "/api/v1/orders", "key-1", ORDER_BODY, throttled);
+        MockHttpServletResponse retry = send("POST", "/api/v1/orders", "key-1", ORDER_BODY, created());
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(IdempotencyFilter.isFinalOutcome(400)).isTrue();
+        assertThat(IdempotencyFilter.isFinalOutcome(409)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A POST to orders without a key should be rejected; other routes may omit it")
+    void missingKey() throws Exception {
+        assertThat(send("POST", "/api/v1/orders", null, ORDER_BODY, created()).getStatus()).isEqualTo(400);
+        assertThat(send("PATCH", "/api/v1/stock-entries/1", null, "{}", created()).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A retry arriving while the first request runs should wait for its response")
+    void concurrentRetry_shouldWaitAndReplay() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (req, res) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(req, res);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(
+                () -> sendUnchecked("key-1", slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(
+                () -> sendUnchecked("key-1", created()));
+        Thread.sleep(100);
+        assertThat(retry).isNotDone();
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        MockHttpServletResponse replayed = retry.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+    }
+
+    private FilterChain created() {
+        return (req, res) -> {
+            int id = executions.incrementAndGet();
+            req.getInputStream().readAllBytes();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(201);
+            response.setContentType("application/json");
+            response.setHeader("Location", "/api/v1/orders/" + id);
+            response.getOutputStream().write(("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse sendUnchecked(String key, FilterChain chain) {
+        try {
+            return send("POST", "/api/v1/orders", key, ORDER_BODY, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String key, String body, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
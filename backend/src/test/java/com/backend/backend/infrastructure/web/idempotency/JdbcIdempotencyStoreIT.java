@@ -0,0 +1,81 @@
+package com.backend.backend.infrastructure.web.idempotency;
+
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcIdempotencyStoreIT extends IntegrationTestBase {
+
+    private static final String KEY = "a".repeat(64);
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    void claim_isExclusiveUntilCompletedThenReturnsTheResponse() {
+        JdbcIdempotencyStore store = storeAt(NOW);
+
+        assertThat(store.claim(KEY, "fp-1")).isEmpty();
+        IdempotencyRecord running = store.claim(KEY, "fp-1").orElseThrow();
+        assertThat(running.isCompleted()).isFalse();
+
+        store.complete(KEY, "fp-1", new IdempotentResponse(201, "application/json", "/api/v1/orders/7",
+                "{\"id\":7}".getBytes(StandardCharsets.UTF_8)));
+
+        IdempotencyRecord done = store.claim(KEY, "fp-1").orElseThrow();
+        assertThat(done.fingerprint()).isEqualTo("fp-1");
+        assertThat(done.response().status()).isEqualTo(201);
+        assertThat(done.response().location()).isEqualTo("/api/v1/orders/7");
+        assertThat(new String(done.response().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void release_letsTheNextRequestClaimAgain() {
+        JdbcIdempotencyStore store = storeAt(NOW);
+        store.claim(KEY, "fp-1");
+
+        store.release(KEY);
+
+        assertThat(store.claim(KEY, "fp-1")).isEmpty();
+    }
+
+    @Test
+    void abandonedClaimsAndExpiredKeysCanBeClaimedAgain() {
+        storeAt(NOW).claim(KEY, "fp-1");
+        assertThat(storeAt(NOW.plus(Duration.ofMinutes(2))).claim(KEY, "fp-2")).isEmpty();
+
+        storeAt(NOW).complete(KEY, "fp-2", new IdempotentResponse(200, null, null, new byte[0]));
+        assertThat(storeAt(NOW.plus(Duration.ofHours(2))).claim(KEY, "fp-1")).isPresent();
+        assertThat(storeAt(NOW.plus(Duration.ofDays(2))).claim(KEY, "fp-3")).isEmpty();
+    }
+
+    @Test
+    void purgeExpired_deletesOnlyExpiredKeys() {
+        storeAt(NOW).claim(KEY, "fp-1");
+        storeAt(NOW.plus(Duration.ofDays(1))).claim("b".repeat(64), "fp-1");
+
+        assertThat(storeAt(NOW).purgeExpired(NOW.plus(Duration.ofDays(1)).plusSeconds(1))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isEqualTo(1);
+    }
+
+    private JdbcIdempotencyStore storeAt(Instant now) {
+        return new JdbcIdempotencyStore(jdbcTemplate, Duration.ofDays(1), Duration.ofMinutes(1),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.backend.infrastructure.web.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.backend.backend.config.AccessLogProps;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestLoggingFilter Tests")
+class RequestLoggingFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.ACCESS_LOGGER);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AccessLogProps props = new AccessLogProps();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should write a single record with the request fields")
+    void request_shouldBeLoggedOnce() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(props);
+
+        send(filter, "/api/v1/products", status(200));
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).matches("GET /api/v1/products\\?page=1 200 \\d+ms");
+    }
+
+    @Test
+    @DisplayName("Successful requests should be sampled, errors and slow requests always logged")
+    void sampling() {
+        props.setSuccessSampleRate(0.1);
+        props.setSlowThreshold(Duration.ofMillis(500));
+        RequestLoggingFilter filter = new RequestLoggingFilter(props, () -> 0.5);
+        long fast = Duration.ofMillis(5).toNanos();
+
+        assertThat(filter.shouldLog(200, fast)).isFalse();
+        assertThat(filter.shouldLog(404, fast)).isTrue();
+        assertThat(filter.shouldLog(500, fast)).isTrue();
+        assertThat(filter.shouldLog(200, Duration.ofMillis(600).toNanos())).isTrue();
+        assertThat(new RequestLoggingFilter(props, () -> 0.05).shouldLog(200, fast)).isTrue();
+
+        props.setSuccessSampleRate(0.0);
+        assertThat(new RequestLoggingFilter(props, () -> 0.0).shouldLog(200, fast)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Excluded paths should not be logged")
+    void actuator_shouldBeExcluded() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(props);
+
+        send(filter, "/actuator/health", status(200));
+        send(filter, "/actuator/prometheus", status(200));
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A failing request should be logged as a 500 and the exception rethrown")
+    void failure_shouldBeLoggedAndRethrown() {
+        props.setSuccessSampleRate(0.0);
+        RequestLoggingFilter filter = new RequestLoggingFilter(props);
+
+        assertThatThrownBy(() -> send(filter, "/api/v1/orders", (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains(" 500 ");
+    }
+
+    private static FilterChain status(int status) {
+        return (req, res) -> ((HttpServletResponse) res).setStatus(status);
+    }
+
+    private static void send(RequestLoggingFilter filter, String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString("page=1");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
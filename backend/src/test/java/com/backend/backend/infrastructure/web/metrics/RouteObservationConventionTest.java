@@ -0,0 +1,49 @@
+package com.backend.backend.infrastructure.web.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RouteObservationConvention Tests")
+class RouteObservationConventionTest {
+
+    private final RouteObservationConvention convention = new RouteObservationConvention();
+
+    @Test
+    @DisplayName("Should tag the status class and the API version of the called URI")
+    void tags() {
+        KeyValues v1 = tags("/api/v1/products/42", 404, null);
+        assertThat(v1.stream()).extracting(kv -> kv.getKey() + "=" + kv.getValue())
+                .contains("status.class=4xx", "api.version=v1", "uri=/api/v1/products/{id}", "method=GET");
+
+        assertThat(value(tags("/api/products/42", 200, null), RouteObservationConvention.API_VERSION)).isEqualTo("legacy");
+        assertThat(value(tags("/auth/login", 200, null), RouteObservationConvention.API_VERSION)).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("An exception escaping the handler should count as 5xx")
+    void error_shouldBe5xx() {
+        KeyValues keyValues = tags("/api/v1/orders", 200, new IllegalStateException("boom"));
+
+        assertThat(value(keyValues, RouteObservationConvention.STATUS_CLASS)).isEqualTo("5xx");
+    }
+
+    private KeyValues tags(String uri, int status, Throwable error) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+        context.setPathPattern("/api/v1/products/{id}");
+        context.setError(error);
+        return convention.getLowCardinalityKeyValues(context);
+    }
+
+    private static String value(KeyValues keyValues, String key) {
+        return keyValues.stream().filter(kv -> kv.getKey().equals(key)).findFirst().orElseThrow().getValue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.backend.infrastructure.web.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowRoutesEndpoint Tests")
+class SlowRoutesEndpointTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SlowRoutesEndpoint endpoint = new SlowRoutesEndpoint(registry);
+
+    @Test
+    @DisplayName("Routes should be ranked by p95, slowest first, without actuator or idle routes")
+    void slowRoutes_shouldRankByP95() {
+        record("/api/v1/products", 5, 10);
+        record("/api/v1/orders", 300, 10);
+        record("/api/v1/customers/{id}", 40, 10);
+        record("/actuator/prometheus", 900, 10);
+        record("/api/v1/suppliers", 0, 0);
+
+        List<SlowRoutesEndpoint.RouteLatency> routes = endpoint.slowRoutes(null);
+
+        assertThat(routes).extracting(SlowRoutesEndpoint.RouteLatency::uri)
+                .containsExactly("/api/v1/orders", "/api/v1/customers/{id}", "/api/v1/products");
+        assertThat(routes.get(0).percentileMillis()).containsKeys("p50", "p95", "p99");
+        assertThat(routes.get(0).count()).isEqualTo(10);
+        assertThat(routes.get(0).statusClass()).isEqualTo("2xx");
+        assertThat(endpoint.slowRoutes(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Percentile labels")
+    void label() {
+        assertThat(SlowRoutesEndpoint.label(0.5)).isEqualTo("p50");
+        assertThat(SlowRoutesEndpoint.label(0.95)).isEqualTo("p95");
+        assertThat(SlowRoutesEndpoint.label(0.999)).isEqualTo("p99.9");
+    }
+
+    private void record(String uri, long millis, int times) {
+        Timer timer = Timer.builder(SlowRoutesEndpoint.METRIC)
+                .tags("method", "GET", "uri", uri, RouteObservationConvention.STATUS_CLASS, "2xx",
+                        RouteObservationConvention.API_VERSION, "v1")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        for (int i = 0; i < times; i++) {
+            timer.record(Duration.ofMillis(millis));
+        }
+    }
+}
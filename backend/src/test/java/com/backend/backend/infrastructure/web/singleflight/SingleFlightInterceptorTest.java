@@ -0,0 +1,159 @@
+package com.backend.backend.infrastructure.web.singleflight;
+
+import com.backend.backend.config.SingleFlightProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlightInterceptor Tests")
+class SingleFlightInterceptorTest {
+
+    private final SingleFlightProps props = new SingleFlightProps();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Reads target = new Reads();
+    private SingleFlightInterceptor interceptor;
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Identical concurrent calls should execute once and share the result")
+    void identicalCalls_shouldCollapse() throws Exception {
+        Reads reads = proxy();
+
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            calls.add(executor.submit(() -> reads.find("iphone", request("application/json"))));
+        }
+        awaitWaiters(3);
+        target.release.countDown();
+
+        for (Future<String> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo("iphone#1");
+        }
+        assertThat(target.executions).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(3);
+        assertThat(registry.get("http.server.single_flight.fanout").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Calls with different arguments or Accept headers should not be collapsed")
+    void differentCalls_shouldExecuteSeparately() throws Exception {
+        target.release.countDown();
+        Reads reads = proxy();
+
+        reads.find("iphone", request("application/json"));
+        reads.find("iphone", request("application/cbor"));
+        reads.find("ipad", request("application/json"));
+
+        assertThat(target.executions).hasValue(3);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Waiters should receive the exception of the execution they joined")
+    void failure_shouldFanOut() throws Exception {
+        Reads reads = proxy();
+
+        Future<String> first = executor.submit(() -> reads.find("missing", request("application/json")));
+        Future<String> second = executor.submit(() -> reads.find("missing", request("application/json")));
+        awaitWaiters(1);
+        target.release.countDown();
+
+        for (Future<String> call : List.of(first, second)) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A waiter should run the call itself once max-wait has passed")
+    void slowExecution_shouldNotBlockWaitersForever() throws Exception {
+        props.setMaxWait(Duration.ofMillis(50));
+        Reads reads = proxy();
+
+        Future<String> first = executor.submit(() -> reads.find("iphone", request("application/json")));
+        awaitExecutions(1);
+        Future<String> second = executor.submit(() -> reads.find("iphone", request("application/json")));
+        awaitExecutions(2);
+        target.release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("iphone#1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("iphone#2");
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    private Reads proxy() {
+        interceptor = new SingleFlightInterceptor(props, () -> registry);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, SingleFlight.class, true),
+                interceptor));
+        return (Reads) factory.getProxy();
+    }
+
+    private double count(String result) {
+        return registry.get("http.server.single_flight.calls").tag("result", result).counter().count();
+    }
+
+    private void awaitWaiters(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interceptor.waiting() < waiters && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitExecutions(int executions) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.executions.get() < executions && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static MockHttpServletRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/slug/iphone");
+        request.addHeader("Accept", accept);
+        return request;
+    }
+
+    static class Reads {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight
+        public String find(String slug, HttpServletRequest request) throws InterruptedException {
+            int execution = executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            if (slug.equals("missing")) {
+                throw new IllegalArgumentException("not found: " + slug);
+            }
+            return slug + "#" + execution;
+        }
+    }
+}
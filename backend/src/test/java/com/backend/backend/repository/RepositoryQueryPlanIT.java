@@ -0,0 +1,228 @@
+package com.backend.backend.repository;
+
+import com.backend.backend.support.IntegrationTestBase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query method of the hot-path repositories against seeded tables, captures the SQL
+ * MySQL received from the general log and fails if its EXPLAIN plan scans a whole large table
+ * ({@code type} ALL or index).
+ * <p>
+ * A new repository method without a case here fails {@link #everyQueryMethodHasAPlanCase()}.
+ */
+class RepositoryQueryPlanIT extends IntegrationTestBase {
+
+    private static final List<Class<?>> REPOSITORIES =
+            List.of(OrderRepository.class, ProductRepository.class, StockEntryRepository.class);
+    private static final Set<String> LARGE_TABLES = Set.of("orders", "products", "stock_entries");
+    private static final Set<String> FULL_SCANS = Set.of("ALL", "index");
+    private static final String SEED = "plan-";
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /**
+     * Queries allowed to scan: {@code LIKE '%x%'} cannot use a B-tree index.
+     */
+    private static final Set<String> ALLOWED_SCANS = Set.of(
+            "ProductRepository.findByNameContainingIgnoreCase(String,Pageable)",
+            "ProductRepository.findByNameContainingIgnoreCase(String)");
+
+    private static final Pattern TABLE_ALIAS = Pattern.compile("\\b(?:from|join)\\s+(\\w+)\\s+(?:as\\s+)?(\\w+)");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockEntryRepository stockEntryRepository;
+
+    /** Root: general log and EXPLAIN of any statement. */
+    private SingleConnectionDataSource rootDataSource;
+    private JdbcTemplate root;
+
+    @BeforeAll
+    void seed() {
+        rootDataSource = new SingleConnectionDataSource(mysql.getJdbcUrl(), "root", mysql.getPassword(), true);
+        root = new JdbcTemplate(rootDataSource);
+        String numbers = "WITH d AS (SELECT 0 n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4"
+                + " UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9),"
+                + " seq AS (SELECT a.n + 10 * b.n + 100 * c.n + 1000 * e.n + 1 AS n FROM d a, d b, d c, d e) ";
+
+        root.update("INSERT INTO customers (name, slug) " + numbers
+                + "SELECT CONCAT('" + SEED + "customer-', n), CONCAT('" + SEED + "customer-', n) FROM seq WHERE n <= 200");
+        root.update("INSERT INTO suppliers (name) " + numbers
+                + "SELECT CONCAT('" + SEED + "supplier-', n) FROM seq WHERE n <= 100");
+        // ~5% đã xóa mềm, để điều kiện deleted_at IS NULL có ý nghĩa
+        root.update("INSERT INTO products (name, slug, price, quantity_in_stock, deleted_at) " + numbers
+                + "SELECT CONCAT('" + SEED + "product-', n), CONCAT('" + SEED + "product-', n), n % 1000 + 0.99, n % 500,"
+                + " IF(n % 20 = 0, NOW(), NULL) FROM seq");
+        root.update("INSERT INTO orders (customer_id, order_date, total_amount, deleted_at) " + numbers
+                + "SELECT (SELECT id FROM customers WHERE name = CONCAT('" + SEED + "customer-', n % 200 + 1)),"
+                + " TIMESTAMP('2024-01-01') + INTERVAL n HOUR, n % 1000 + 0.5, IF(n % 20 = 0, NOW(), NULL) FROM seq");
+        root.update("INSERT INTO stock_entries (product_id, supplier_id, quantity, entry_date, deleted_at) " + numbers
+                + "SELECT (SELECT id FROM products WHERE name = CONCAT('" + SEED + "product-', n)),"
+                + " (SELECT id FROM suppliers WHERE name = CONCAT('" + SEED + "supplier-', n % 100 + 1)),"
+                + " n % 1000 + 1, TIMESTAMP('2024-01-01') + INTERVAL n HOUR, IF(n % 20 = 0, NOW(), NULL) FROM seq");
+        root.execute("ANALYZE TABLE customers, suppliers, products, orders, stock_entries");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        root.execute("SET GLOBAL general_log = 'OFF'");
+        root.update("DELETE FROM stock_entries WHERE supplier_id IN (SELECT id FROM suppliers WHERE name LIKE '" + SEED + "%')");
+        root.update("DELETE FROM orders WHERE customer_id IN (SELECT id FROM customers WHERE name LIKE '" + SEED + "%')");
+        root.update("DELETE FROM products WHERE name LIKE '" + SEED + "%'");
+        root.update("DELETE FROM suppliers WHERE name LIKE '" + SEED + "%'");
+        root.update("DELETE FROM customers WHERE name LIKE '" + SEED + "%'");
+        rootDataSource.destroy();
+    }
+
+    @Test
+    void everyQueryMethodHasAPlanCase() {
+        List<String> declared = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> !method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+                .map(RepositoryQueryPlanIT::signature)
+                .toList();
+
+        assertThat(cases().keySet()).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    void noQueryScansALargeTable() {
+        List<String> scans = new ArrayList<>();
+        List<String> uncaptured = new ArrayList<>();
+        cases().forEach((method, query) -> {
+            if (ALLOWED_SCANS.contains(method)) {
+                return;
+            }
+            List<String> captured = capture(query);
+            if (captured.isEmpty()) {
+                // Không bắt được SELECT nào (cache, log tắt, ...) thì case này không kiểm tra gì
+                uncaptured.add(method);
+            }
+            for (String sql : captured) {
+                Map<String, String> tables = tablesByAlias(sql);
+                for (Map<String, Object> row : root.queryForList("EXPLAIN " + sql)) {
+                    String table = tables.getOrDefault(String.valueOf(row.get("table")), String.valueOf(row.get("table")));
+                    if (LARGE_TABLES.contains(table) && FULL_SCANS.contains(String.valueOf(row.get("type")))) {
+                        scans.add(method + ": " + row.get("type") + " scan of " + table + " (key=" + row.get("key")
+                                + ", rows=" + row.get("rows") + ")\n    " + sql);
+                    }
+                }
+            }
+        });
+
+        assertThat(uncaptured).as("Cases without a captured SELECT on a large table").isEmpty();
+        assertThat(scans).as("Full scans of large tables").isEmpty();
+    }
+
+    /**
+     * One call per repository query method, with arguments that select a small slice of the seeded rows.
+     */
+    private Map<String, Runnable> cases() {
+        long customerId = seededId("customers", "customer-1");
+        long productId = seededId("products", "product-42");
+        long supplierId = seededId("suppliers", "supplier-42");
+
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+        cases.put("OrderRepository.findByCustomerId(Long)", () -> orderRepository.findByCustomerId(customerId));
+        cases.put("OrderRepository.findByOrderDateBetween(OffsetDateTime,OffsetDateTime)",
+                () -> orderRepository.findByOrderDateBetween(START.plusDays(100), START.plusDays(101)));
+        cases.put("OrderRepository.findByTotalAmountBetween(BigDecimal,BigDecimal)",
+                () -> orderRepository.findByTotalAmountBetween(new BigDecimal("100"), new BigDecimal("101")));
+
+        cases.put("ProductRepository.findByNameContainingIgnoreCase(String,Pageable)",
+                () -> productRepository.findByNameContainingIgnoreCase("product-42", PageRequest.of(0, 10)));
+        cases.put("ProductRepository.existsByName(String)", () -> productRepository.existsByName(SEED + "product-42"));
+        cases.put("ProductRepository.findByName(String)", () -> productRepository.findByName(SEED + "product-42"));
+        cases.put("ProductRepository.findBySlug(String)", () -> productRepository.findBySlug(SEED + "product-42"));
+        cases.put("ProductRepository.existsBySlug(String)", () -> productRepository.existsBySlug(SEED + "product-42"));
+        cases.put("ProductRepository.findByNameContainingIgnoreCase(String)",
+                () -> productRepository.findByNameContainingIgnoreCase("product-42"));
+        cases.put("ProductRepository.findByPriceBetween(BigDecimal,BigDecimal)",
+                () -> productRepository.findByPriceBetween(new BigDecimal("100"), new BigDecimal("101")));
+        cases.put("ProductRepository.findByQuantityInStockLessThan(Integer)",
+                () -> productRepository.findByQuantityInStockLessThan(3));
+        cases.put("ProductRepository.countByQuantityInStock(Integer)", () -> productRepository.countByQuantityInStock(0));
+        cases.put("ProductRepository.countByQuantityInStockLessThan(Integer)",
+                () -> productRepository.countByQuantityInStockLessThan(3));
+
+        cases.put("StockEntryRepository.findByProductId(Long)", () -> stockEntryRepository.findByProductId(productId));
+        cases.put("StockEntryRepository.findBySupplierId(Long)", () -> stockEntryRepository.findBySupplierId(supplierId));
+        cases.put("StockEntryRepository.findByProductIdAndSupplierId(Long,Long)",
+                () -> stockEntryRepository.findByProductIdAndSupplierId(productId, supplierId));
+        cases.put("StockEntryRepository.findByEntryDateBetween(OffsetDateTime,OffsetDateTime)",
+                () -> stockEntryRepository.findByEntryDateBetween(START.plusDays(100), START.plusDays(101)));
+        cases.put("StockEntryRepository.findByQuantityBetween(Integer,Integer)",
+                () -> stockEntryRepository.findByQuantityBetween(100, 101));
+        return cases;
+    }
+
+    private long seededId(String table, String name) {
+        return root.queryForObject("SELECT id FROM " + table + " WHERE name = ?", Long.class, SEED + name);
+    }
+
+    /**
+     * SELECTs on the large tables that MySQL received while {@code query} ran. The JDBC driver
+     * inlines parameters client-side, so the logged statements can be explained as they are.
+     */
+    private List<String> capture(Runnable query) {
+        root.execute("SET GLOBAL log_output = 'TABLE'");
+        root.execute("TRUNCATE TABLE mysql.general_log");
+        root.execute("SET GLOBAL general_log = 'ON'");
+        try {
+            query.run();
+        } finally {
+            root.execute("SET GLOBAL general_log = 'OFF'");
+        }
+        // Các context Spring khác (poller, ...) cũng ghi vào log: chỉ giữ SELECT trên các bảng lớn
+        return root.queryForList("SELECT CONVERT(argument USING utf8mb4) FROM mysql.general_log"
+                        + " WHERE command_type = 'Query' ORDER BY event_time", String.class).stream()
+                .map(String::trim)
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .filter(sql -> tablesByAlias(sql).values().stream().anyMatch(LARGE_TABLES::contains))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> tablesByAlias(String sql) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher matcher = TABLE_ALIAS.matcher(sql.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            tables.put(matcher.group(2), matcher.group(1));
+        }
+        return tables;
+    }
+
+    private static String signature(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "("
+                + Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(","))
+                + ")";
+    }
+}
@@ -0,0 +1,112 @@
+package com.backend.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify on the executor threads")
+    void encodeAndMatches_shouldRunOnExecutor() {
+        encoder = new BoundedPasswordEncoder(new ThreadRecordingEncoder(), 1, 1, Duration.ofSeconds(5), registry);
+
+        assertThat(encoder.encode("secret")).startsWith("password-hash-").endsWith(":secret");
+        assertThat(encoder.matches("secret", "secret")).isTrue();
+        assertThat(encoder.upgradeEncoding("anything")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject at once when every thread is busy and the queue is full")
+    void encode_shouldRejectWhenSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5), registry);
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+        awaitQueued();
+
+        long begin = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - begin)).isLessThan(Duration.ofSeconds(1));
+        assertThat(registry.get("password.hash.rejected").tag("reason", "queue-full").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:queued");
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the timeout")
+    void matches_shouldTimeOut() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 4, Duration.ofMillis(100), registry);
+
+        assertThatThrownBy(() -> encoder.matches("slow", "hash:slow"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(registry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("executor.queued").tag("name", "password.hash").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static class ThreadRecordingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return Thread.currentThread().getName().startsWith("password-hash-")
+                    && encodedPassword.contentEquals(rawPassword);
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.backend.backend.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthFilter Tests")
+class JwtAuthFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserSecurityStateService userSecurityStateService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private FilterChain chain;
+
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(new JwtVerifier(Ticker.systemTicker(), SECRET, 100));
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        filter = new JwtAuthFilter(jwtUtil, userDetailsService, userSecurityStateService, tokenRevocationService);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Current token version should authenticate from claims without loading the user")
+    void currentVersion_shouldAuthenticateFromClaims() throws Exception {
+        given(userSecurityStateService.get(7L)).willReturn(new UserSecurityState(7L, 3));
+
+        filter.doFilter(request(token(Map.of("userId", 7, "role", "ADMIN", "ver", 3))), new MockHttpServletResponse(), chain);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("alice");
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        then(userDetailsService).shouldHaveNoInteractions();
+        verify(chain).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Revoked token version should not authenticate")
+    void staleVersion_shouldNotAuthenticate() throws Exception {
+        given(userSecurityStateService.get(7L)).willReturn(new UserSecurityState(7L, 4));
+
+        filter.doFilter(request(token(Map.of("userId", 7, "role", "ADMIN", "ver", 3))), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Token revoked by logout should not authenticate")
+    void revokedJti_shouldNotAuthenticate() throws Exception {
+        given(tokenRevocationService.isRevoked("jti-1")).willReturn(true);
+        String token = Jwts.builder()
+                .claims(Map.of("userId", 7, "role", "ADMIN", "ver", 3))
+                .id("jti-1")
+                .subject("alice")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        then(userSecurityStateService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Deleted user should not authenticate")
+    void deletedUser_shouldNotAuthenticate() throws Exception {
+        given(userSecurityStateService.get(7L)).willReturn(null);
+
+        filter.doFilter(request(token(Map.of("userId", 7, "role", "USER", "ver", 0))), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Token without version claim should fall back to loading the user")
+    void legacyToken_shouldLoadUser() throws Exception {
+        given(userDetailsService.loadUserByUsername("alice"))
+                .willReturn(User.withUsername("alice").password("x").roles("USER").build());
+
+        filter.doFilter(request(token(Map.of())), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+        then(userSecurityStateService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Invalid token should pass through unauthenticated")
+    void invalidToken_shouldPassThrough() throws Exception {
+        filter.doFilter(request("not-a-jwt"), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userSecurityStateService, never()).get(any());
+        verify(chain).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static String token(Map<String, Object> claims) {
+        return Jwts.builder()
+                .claims(claims)
+                .subject("alice")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
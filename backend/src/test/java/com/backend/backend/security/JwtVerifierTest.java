@@ -0,0 +1,86 @@
+package com.backend.backend.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtVerifier Tests")
+class JwtVerifierTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        Ticker ticker = nanos::get;
+        verifier = new JwtVerifier(ticker, SECRET, 100);
+    }
+
+    @Test
+    @DisplayName("A token verified once should be answered from the cache")
+    void verify_shouldCacheVerifiedClaims() {
+        String token = token(SECRET, 60_000);
+
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        assertThat(first.getSubject()).isEqualTo("alice");
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.cachedTokens()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cached claims should be dropped when the token expires")
+    void verify_shouldHonorExpiry() {
+        verifier.verify(token(SECRET, 60_000));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        assertThat(verifier.cachedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("Tokens signed with another key should be rejected and not cached")
+    void verify_shouldRejectForeignSignature() {
+        // Khóa cùng độ dài để cùng thuật toán (HS256): chỉ chữ ký sai
+        String forged = token(SECRET.replace("test", "fake"), 60_000);
+
+        assertThatThrownBy(() -> verifier.verify(forged)).isInstanceOf(SignatureException.class);
+        assertThat(verifier.tryVerify(forged)).isEmpty();
+        assertThat(verifier.cachedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("Expired tokens should be rejected")
+    void verify_shouldRejectExpiredToken() {
+        String expired = token(SECRET, -1_000);
+
+        assertThatThrownBy(() -> verifier.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifier.tryVerify("")).isEmpty();
+    }
+
+    private static String token(String secret, long validForMillis) {
+        return Jwts.builder()
+                .subject("alice")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + validForMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
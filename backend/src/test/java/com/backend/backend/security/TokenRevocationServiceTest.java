@@ -0,0 +1,119 @@
+package com.backend.backend.security;
+
+import com.backend.backend.config.TokenRevocationProps;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidation;
+import com.backend.backend.infrastructure.cache.invalidation.CacheInvalidationBus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenStore store;
+
+    @Mock
+    private CacheInvalidationBus bus;
+
+    private TokenRevocationService service;
+    private Consumer<CacheInvalidation> remoteListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new TokenRevocationService(store, bus, new TokenRevocationProps(), new SimpleMeterRegistry());
+        ArgumentCaptor<Consumer<CacheInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(bus).subscribe(listener.capture());
+        remoteListener = listener.getValue();
+    }
+
+    @Test
+    @DisplayName("Tokens never revoked should be accepted without touching the store")
+    void isRevoked_shouldSkipStoreForUnknownTokens() {
+        assertThat(service.isRevoked("never-revoked")).isFalse();
+        assertThat(service.isRevoked(null)).isFalse();
+        then(store).should(never()).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("Revoking should persist, broadcast and reject the token")
+    void revoke_shouldRejectTokenEverywhere() {
+        Date exp = new Date(System.currentTimeMillis() + 60_000);
+        Claims claims = Jwts.claims().id("jti-1").expiration(exp).add(JwtUtil.USER_ID_CLAIM, 7).build();
+
+        assertThat(service.revoke(claims)).isTrue();
+
+        // exp của JWT chỉ chính xác đến giây
+        verify(store).revoke("jti-1", 7L, exp.toInstant().truncatedTo(ChronoUnit.SECONDS));
+        verify(bus).publish(TokenRevocationService.BUS_NAME, "jti-1");
+        assertThat(service.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tokens without jti cannot be revoked one by one")
+    void revoke_shouldRefuseTokensWithoutJti() {
+        assertThat(service.revoke(Jwts.claims().subject("alice").build())).isFalse();
+        then(store).should(never()).revoke(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Revocations from other nodes should be checked against the store")
+    void remoteRevocation_shouldBeHonored() {
+        given(store.isRevoked("jti-2")).willReturn(true);
+
+        remoteListener.accept(new CacheInvalidation(TokenRevocationService.BUS_NAME, "jti-2", "node-b"));
+
+        assertThat(service.isRevoked("jti-2")).isTrue();
+        assertThat(service.isRevoked("jti-2")).isTrue();
+        verify(store).isRevoked("jti-2");
+    }
+
+    @Test
+    @DisplayName("Store failures should reject tokens the filter cannot rule out")
+    void isRevoked_shouldFailClosed() {
+        given(store.isRevoked("jti-3")).willThrow(new DataAccessResourceFailureException("down"));
+        remoteListener.accept(new CacheInvalidation(TokenRevocationService.BUS_NAME, "jti-3", "node-b"));
+
+        assertThat(service.isRevoked("jti-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Rebuild should reload unexpired revocations")
+    @SuppressWarnings("unchecked")
+    void rebuild_shouldReloadFromStore() {
+        org.mockito.Mockito.doAnswer(inv -> {
+            ((Consumer<String>) inv.getArgument(1)).accept("jti-4");
+            return null;
+        }).when(store).forEachActive(eq(Instant.EPOCH), any());
+        given(store.isRevoked("jti-4")).willReturn(true);
+
+        service.rebuild();
+
+        assertThat(service.isRevoked("jti-4")).isTrue();
+        verify(store).purgeExpired();
+    }
+}
@@ -6,6 +6,10 @@ import com.backend.backend.entity.Customer;
 import com.backend.backend.exception.ResourceNotFoundException;
 import com.backend.backend.mapper.CustomerMapper;
 import com.backend.backend.repository.CustomerRepository;
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.cache.list.ListCacheInvalidator;
+import com.backend.backend.infrastructure.persistence.NaturalIdLookup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,9 @@ class CustomerServiceTest {
 
     @Mock private CustomerRepository customerRepository;
     @Mock private CustomerMapper customerMapper;
+    @Mock private NegativeCache negativeCache;
+    @Mock private ListCacheInvalidator listCacheInvalidator;
+    @Mock private NaturalIdLookup naturalIdLookup;
 
     @InjectMocks
     private CustomerService customerService;
@@ -115,6 +122,7 @@ class CustomerServiceTest {
                 .hasMessage("Không tìm thấy khách hàng với ID: 999");
 
         verify(customerRepository).findById(999L);
+        verify(negativeCache).markMissing(CacheNames.CUSTOMER_NOT_FOUND, 999L);
         verifyNoInteractions(customerMapper);
     }
 
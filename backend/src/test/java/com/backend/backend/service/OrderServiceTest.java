@@ -10,6 +10,7 @@ import com.backend.backend.mapper.OrderMapper;
 import com.backend.backend.repository.CustomerRepository;
 import com.backend.backend.repository.OrderRepository;
 import com.backend.backend.repository.ProductRepository;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ class OrderServiceTest {
     @Mock private CustomerRepository customerRepository;
     @Mock private ProductRepository productRepository;
     @Mock private OrderMapper orderMapper;
+    @Mock private NegativeCache negativeCache;
 
     @InjectMocks
     private OrderService orderService;
@@ -9,6 +9,10 @@ import com.backend.backend.exception.ResourceNotFoundException;
 import com.backend.backend.mapper.ProductMapper;
 import com.backend.backend.repository.ProductRepository;
 import com.backend.backend.util.PageMapper;
+import com.backend.backend.config.CacheNames;
+import com.backend.backend.infrastructure.cache.NegativeCache;
+import com.backend.backend.infrastructure.cache.list.ListCacheInvalidator;
+import com.backend.backend.infrastructure.persistence.NaturalIdLookup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +39,15 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private NegativeCache negativeCache;
+
+    @Mock
+    private ListCacheInvalidator listCacheInvalidator;
+
+    @Mock
+    private NaturalIdLookup naturalIdLookup;
+
     @InjectMocks
     private ProductService productService;
 
@@ -145,6 +158,8 @@ class ProductServiceTest {
         Long id = 1L;
         
         given(productRepository.findById(id)).willReturn(Optional.of(entity1));
+        // Snapshot trước khi cập nhật, dùng để invalidate list cache
+        given(productMapper.toResponse(entity1)).willReturn(response1);
         
         // Mock updateEntity method - MapStruct void method
         doAnswer(invocation -> {
@@ -186,6 +201,7 @@ class ProductServiceTest {
         verify(productMapper).updateEntity(entity1, updateRequest);
         verify(productRepository).save(entity1);
         verify(productMapper).toResponse(savedEntity);
+        verify(listCacheInvalidator).changed(CacheNames.PRODUCT_LIST, response1, expectedResponse);
     }
 
     @Test
@@ -238,6 +254,7 @@ class ProductServiceTest {
                 .hasMessageContaining("Không tìm thấy sản phẩm với ID: " + nonExistentId);
 
         verify(productRepository).findById(nonExistentId);
+        verify(negativeCache).markMissing(CacheNames.PRODUCT_NOT_FOUND, nonExistentId);
         verifyNoInteractions(productMapper);
     }
 
@@ -247,14 +264,16 @@ class ProductServiceTest {
         // Arrange
         int page = 0, size = 2;
         String sort = "id,desc";
-        String search = "iPhone";
+        String search = "  iPhone ";
+        // Search is trimmed and lower-cased before it reaches the repository
+        String normalizedSearch = "iphone";
 
         Sort expectedSort = Sort.by("id").descending();
         Pageable pageable = PageRequest.of(page, size, expectedSort);
         
         Page<Product> pageData = new PageImpl<>(List.of(entity1, entity2), pageable, 2);
 
-        given(productRepository.findByNameContainingIgnoreCase(search, pageable)).willReturn(pageData);
+        given(productRepository.findByNameContainingIgnoreCase(normalizedSearch, pageable)).willReturn(pageData);
         given(productMapper.toResponse(entity1)).willReturn(response1);
         given(productMapper.toResponse(entity2)).willReturn(response2);
 
@@ -280,7 +299,7 @@ class ProductServiceTest {
             assertThat(result.getPage()).isEqualTo(0);
             assertThat(result.getTotalPages()).isEqualTo(1);
 
-            verify(productRepository).findByNameContainingIgnoreCase(search, pageable);
+            verify(productRepository).findByNameContainingIgnoreCase(normalizedSearch, pageable);
             pageMapperMock.verify(() -> PageMapper.toPageResponse(eq(pageData), any()));
         }
     }
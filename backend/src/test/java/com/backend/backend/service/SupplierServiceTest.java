@@ -6,6 +6,7 @@ import com.backend.backend.entity.Supplier;
 import com.backend.backend.exception.ResourceNotFoundException;
 import com.backend.backend.mapper.SupplierMapper;
 import com.backend.backend.repository.SupplierRepository;
+import com.backend.backend.infrastructure.cache.NegativeCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ class SupplierServiceTest {
 
     @Mock private SupplierRepository supplierRepository;
     @Mock private SupplierMapper supplierMapper;
+    @Mock private NegativeCache negativeCache;
 
     @InjectMocks
     private SupplierService supplierService;
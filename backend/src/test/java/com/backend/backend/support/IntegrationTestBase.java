@@ -24,7 +24,7 @@ public abstract class IntegrationTestBase {
 
     @Container
     @SuppressWarnings("resource") // Testcontainers tự động quản lý lifecycle của container
-    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+    protected static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
             .withDatabaseName(getTestProperty("test.db.name", "testdb"))
             .withUsername(getTestProperty("test.db.user", "testuser"))
             .withPassword(getTestProperty("test.db.password", "testpass"));
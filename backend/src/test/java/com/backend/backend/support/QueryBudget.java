@@ -0,0 +1,31 @@
+package com.backend.backend.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when the Hibernate statements it runs exceed the budget. Counts everything on the test
+ * thread, including MockMvc requests; on a class it applies to every test method without its own budget.
+ * <p>
+ * A {@link com.backend.backend.infrastructure.persistence.statements.StatementStats} parameter gives the
+ * test the running counts.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Maximum statements for the whole test.
+     */
+    int statements() default Integer.MAX_VALUE;
+
+    /**
+     * Maximum executions of one statement shape; the default allows none repeated 5 times (N+1).
+     */
+    int sameStatement() default 4;
+}
@@ -0,0 +1,68 @@
+package com.backend.backend.support;
+
+import com.backend.backend.infrastructure.persistence.statements.StatementRecorder;
+import com.backend.backend.infrastructure.persistence.statements.StatementStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Opens a {@link StatementRecorder} scope around each test method (not its {@code @BeforeEach} setup) and
+ * checks it against {@link QueryBudget}.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback,
+        ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(StatementStats.class, StatementRecorder.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        StatementStats stats = context.getStore(NAMESPACE).remove(StatementStats.class, StatementStats.class);
+        if (stats == null) {
+            return;
+        }
+        StatementRecorder.end(stats);
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElse(null);
+        if (budget == null) {
+            return;
+        }
+        if (stats.statements() > budget.statements()) {
+            throw new AssertionError("Expected at most " + budget.statements() + " SQL statements but ran "
+                    + stats.statements() + describe(stats.repeated(2)));
+        }
+        List<StatementStats.RepeatedStatement> repeated = stats.repeated(budget.sameStatement() + 1);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("Expected no statement to run more than " + budget.sameStatement()
+                    + " times (likely N+1)" + describe(repeated));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == StatementStats.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(StatementStats.class, StatementStats.class);
+    }
+
+    private static String describe(List<StatementStats.RepeatedStatement> repeated) {
+        return repeated.stream()
+                .map(statement -> "\n  " + statement.count() + "x " + statement.shape())
+                .collect(Collectors.joining());
+    }
+}